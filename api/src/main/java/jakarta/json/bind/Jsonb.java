@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,11 +16,27 @@
 
 package jakarta.json.bind;
 
+import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import jakarta.json.bind.metrics.JsonbDiagnostics;
+import jakarta.json.bind.metrics.JsonbStatistics;
 
 /**
  * <p>{@code Jsonb} provides an abstraction over the JSON Binding framework operations:</p>
@@ -357,4 +373,476 @@ public interface Jsonb extends AutoCloseable {
      * @since JSON Binding 1.0
      */
     void toJson(Object object, Type runtimeType, OutputStream stream) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from the specified file and return the
+     * resulting content tree.
+     *
+     * Implementations should read the file directly, for example by mapping it into memory,
+     * instead of copying it through an intermediate stream. Default implementation reads
+     * the file using {@link #fromJson(InputStream, Type)}.
+     *
+     * @param path
+     *      The file is read as a JSON data.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     *
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, such as I/O error.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 3.1
+     */
+    default <T> T fromJson(Path path, Type runtimeType) throws JsonbException {
+        try (InputStream stream = Files.newInputStream(path)) {
+            return fromJson(stream, runtimeType);
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the object content tree into a file.
+     *
+     * Implementations should write to the file directly, for example through
+     * a {@link java.nio.channels.FileChannel}, instead of copying the output through an intermediate stream.
+     * Default implementation writes the file using {@link #toJson(Object, OutputStream)}.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     *
+     * @param path
+     *      The file the JSON will be written to.
+     *
+     * @param options
+     *      Options specifying how the file is opened, as defined by
+     *      {@link Files#newOutputStream(Path, OpenOption...)}. If no options are present,
+     *      the file is created or truncated.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization, such as I/O error.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 3.1
+     */
+    default void toJson(Object object, Path path, OpenOption... options) throws JsonbException {
+        try (OutputStream stream = Files.newOutputStream(path, options)) {
+            toJson(object, stream);
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads in a JSON data from the specified InputStream and return the
+     * resulting content tree, binding elements of the root JSON array concurrently.
+     *
+     * If the root of the JSON data is an array and the runtime type is an array, {@link java.util.Collection}
+     * or its subtype, implementations may locate the boundaries of the array elements first and deserialize
+     * ranges of the elements as tasks of the given pool. Elements of the result are in the order of the input
+     * and the result is equal to the result of {@link #fromJson(InputStream, Type)}. Custom deserializers and
+     * adapters can be called concurrently from the threads of the pool.
+     *
+     * Default implementation deserializes the data sequentially using {@link #fromJson(InputStream, Type)}.
+     *
+     * @param stream
+     *      The stream is read as a JSON data. Upon a
+     *      successful completion, the stream will be closed by this method.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     *
+     * @param pool
+     *      Pool used to deserialize the elements of the root array.
+     *
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 3.1
+     */
+    default <T> T fromJsonParallel(InputStream stream, Type runtimeType, ForkJoinPool pool) throws JsonbException {
+        Objects.requireNonNull(pool);
+        return fromJson(stream, runtimeType);
+    }
+
+    /**
+     * Reads in a JSON data from the specified file and return the
+     * resulting content tree, binding elements of the root JSON array concurrently.
+     *
+     * Behaves as {@link #fromJsonParallel(InputStream, Type, ForkJoinPool)} and reads the file
+     * as {@link #fromJson(Path, Type)} does.
+     *
+     * Default implementation deserializes the data sequentially using {@link #fromJson(Path, Type)}.
+     *
+     * @param path
+     *      The file is read as a JSON data.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object.
+     *
+     * @param pool
+     *      Pool used to deserialize the elements of the root array.
+     *
+     * @param <T>
+     *      Type of the content tree's root object.
+     *
+     * @return the newly created root object of the java content tree
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, such as I/O error.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 3.1
+     */
+    default <T> T fromJsonParallel(Path path, Type runtimeType, ForkJoinPool pool) throws JsonbException {
+        Objects.requireNonNull(pool);
+        return fromJson(path, runtimeType);
+    }
+
+    /**
+     * Writes the object content tree into output stream, serializing large collections,
+     * arrays and maps concurrently.
+     *
+     * Implementations may split collections, arrays and maps with more elements than the value of
+     * {@link JsonbConfig#PARALLEL_THRESHOLD} property, both the root object and its properties,
+     * into chunks serialized into separate buffers by tasks of the given executor and write the buffers
+     * in order. The output is identical to the output of {@link #toJson(Object, Type, OutputStream)}.
+     * Custom serializers and adapters can be called concurrently from the threads of the executor.
+     *
+     * Default implementation serializes the object sequentially using {@link #toJson(Object, Type, OutputStream)}.
+     *
+     * @param object
+     *      The object content tree to be serialized.
+     *
+     * @param runtimeType
+     *      Runtime type of the content tree's root object. Provided type needs to be
+     *      related to the type of the instance.
+     *
+     * @param stream
+     *      The JSON will be sent as a byte stream to the given
+     *      {@link OutputStream}. Upon a successful completion, the stream will be closed
+     *      by this method.
+     *
+     * @param executor
+     *      Executor used to serialize the chunks.
+     *
+     * @throws JsonbException If any unexpected problem occurs during the
+     * serialization.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 3.1
+     */
+    default void toJsonParallel(Object object, Type runtimeType, OutputStream stream, Executor executor)
+            throws JsonbException {
+        Objects.requireNonNull(executor);
+        toJson(object, runtimeType, stream);
+    }
+
+    /**
+     * Reads in newline-delimited JSON data from the specified InputStream and passes
+     * the value deserialized from each line to the consumer in the order of the input.
+     *
+     * Equivalent to {@code readJsonLinesParallel(stream, runtimeType, consumer, parallelism, true)}.
+     *
+     * @param stream
+     *      The stream is read as UTF-8 encoded JSON data, one JSON value per line. Upon a
+     *      successful completion, the stream will be closed by this method.
+     *
+     * @param runtimeType
+     *      Runtime type of the value of each line.
+     *
+     * @param consumer
+     *      Consumer of the deserialized values.
+     *
+     * @param parallelism
+     *      Maximal number of lines deserialized concurrently. Must be positive.
+     *
+     * @param <T>
+     *      Type of the value of each line.
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, such as I/O error.
+     * @throws IllegalArgumentException
+     *      If the parallelism is not positive.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @see #readJsonLinesParallel(InputStream, Type, Consumer, int, boolean)
+     * @since JSON Binding 3.1
+     */
+    default <T> void readJsonLinesParallel(InputStream stream, Type runtimeType, Consumer<? super T> consumer,
+                                           int parallelism) throws JsonbException {
+        readJsonLinesParallel(stream, runtimeType, consumer, parallelism, true);
+    }
+
+    /**
+     * Reads in newline-delimited JSON data from the specified InputStream and passes
+     * the value deserialized from each line to the consumer.
+     *
+     * Implementations may split the input into ranges of whole lines and deserialize the ranges concurrently,
+     * each with its own parser. Lines are terminated by {@code \n} and a single {@code \r} preceding it is removed.
+     * Lines containing only JSON whitespace, which is space, horizontal tab, line feed and carriage return, are
+     * skipped. If the deserialization of a line fails, {@link JsonbException} with a message containing the number
+     * of the line, starting with one, is thrown and no further values are passed to the consumer.
+     *
+     * If {@code ordered} is true, the consumer is called with the values in the order of the lines, never
+     * concurrently, and all the values of the lines preceding a failed line are passed to the consumer.
+     * Otherwise the consumer can be called in any order and concurrently from several threads.
+     *
+     * Default implementation deserializes the lines sequentially using {@link #fromJson(String, Type)}.
+     *
+     * @param stream
+     *      The stream is read as UTF-8 encoded JSON data, one JSON value per line. Upon a
+     *      successful completion, the stream will be closed by this method.
+     *
+     * @param runtimeType
+     *      Runtime type of the value of each line.
+     *
+     * @param consumer
+     *      Consumer of the deserialized values.
+     *
+     * @param parallelism
+     *      Maximal number of lines deserialized concurrently. Must be positive.
+     *
+     * @param ordered
+     *      Whether the values are passed to the consumer in the order of the lines.
+     *
+     * @param <T>
+     *      Type of the value of each line.
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, such as I/O error.
+     * @throws IllegalArgumentException
+     *      If the parallelism is not positive.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 3.1
+     */
+    default <T> void readJsonLinesParallel(InputStream stream, Type runtimeType, Consumer<? super T> consumer,
+                                           int parallelism, boolean ordered) throws JsonbException {
+        Objects.requireNonNull(runtimeType);
+        Objects.requireNonNull(consumer);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            StringBuilder line = new StringBuilder();
+            long lineNumber = 0;
+            int c;
+            do {
+                c = reader.read();
+                if (c != '\n' && c != -1) {
+                    line.append((char) c);
+                    continue;
+                }
+                if (c == -1 && line.length() == 0) {
+                    break;
+                }
+                lineNumber++;
+                if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+                    line.setLength(line.length() - 1);
+                }
+                if (!isJsonWhitespace(line)) {
+                    T value;
+                    try {
+                        value = fromJson(line.toString(), runtimeType);
+                    } catch (JsonbException e) {
+                        throw new JsonbException("Line " + lineNumber + ": " + e.getMessage(), e);
+                    }
+                    consumer.accept(value);
+                }
+                line.setLength(0);
+            } while (c != -1);
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads in newline-delimited JSON data from the specified file and passes
+     * the value deserialized from each line to the consumer in the order of the input.
+     *
+     * Equivalent to {@code readJsonLinesParallel(path, runtimeType, consumer, parallelism, true)}.
+     *
+     * @param path
+     *      The file is read as UTF-8 encoded JSON data, one JSON value per line.
+     *
+     * @param runtimeType
+     *      Runtime type of the value of each line.
+     *
+     * @param consumer
+     *      Consumer of the deserialized values.
+     *
+     * @param parallelism
+     *      Maximal number of lines deserialized concurrently. Must be positive.
+     *
+     * @param <T>
+     *      Type of the value of each line.
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, such as I/O error.
+     * @throws IllegalArgumentException
+     *      If the parallelism is not positive.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @see #readJsonLinesParallel(Path, Type, Consumer, int, boolean)
+     * @since JSON Binding 3.1
+     */
+    default <T> void readJsonLinesParallel(Path path, Type runtimeType, Consumer<? super T> consumer,
+                                           int parallelism) throws JsonbException {
+        readJsonLinesParallel(path, runtimeType, consumer, parallelism, true);
+    }
+
+    /**
+     * Reads in newline-delimited JSON data from the specified file and passes
+     * the value deserialized from each line to the consumer.
+     *
+     * Behaves as {@link #readJsonLinesParallel(InputStream, Type, Consumer, int, boolean)}. Implementations
+     * may split the file into ranges without reading it sequentially first.
+     *
+     * Default implementation reads the file using {@link #readJsonLinesParallel(InputStream, Type, Consumer, int,
+     * boolean)}.
+     *
+     * @param path
+     *      The file is read as UTF-8 encoded JSON data, one JSON value per line.
+     *
+     * @param runtimeType
+     *      Runtime type of the value of each line.
+     *
+     * @param consumer
+     *      Consumer of the deserialized values.
+     *
+     * @param parallelism
+     *      Maximal number of lines deserialized concurrently. Must be positive.
+     *
+     * @param ordered
+     *      Whether the values are passed to the consumer in the order of the lines.
+     *
+     * @param <T>
+     *      Type of the value of each line.
+     *
+     * @throws JsonbException
+     *     If any unexpected error(s) occur(s) during deserialization, such as I/O error.
+     * @throws IllegalArgumentException
+     *      If the parallelism is not positive.
+     * @throws NullPointerException
+     *      If any of the parameters is {@code null}.
+     *
+     * @since JSON Binding 3.1
+     */
+    default <T> void readJsonLinesParallel(Path path, Type runtimeType, Consumer<? super T> consumer,
+                                           int parallelism, boolean ordered) throws JsonbException {
+        Objects.requireNonNull(runtimeType);
+        Objects.requireNonNull(consumer);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        try {
+            readJsonLinesParallel(Files.newInputStream(path), runtimeType, consumer, parallelism, ordered);
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics collected by this {@code Jsonb} instance.
+     *
+     * Statistics are collected only if enabled by {@link JsonbConfig#withStatistics(boolean)},
+     * otherwise returned snapshot contains no data.
+     *
+     * The default implementation returns a snapshot with zero counters and no type statistics.
+     *
+     * @return statistics snapshot, never {@code null}
+     *
+     * @see JsonbStatistics
+     * @since JSON Binding 3.1
+     */
+    default JsonbStatistics getStatistics() {
+        return new JsonbStatistics() {
+            @Override
+            public long getCacheHits() {
+                return 0;
+            }
+
+            @Override
+            public long getCacheMisses() {
+                return 0;
+            }
+
+            @Override
+            public long getCacheEvictions() {
+                return 0;
+            }
+
+            @Override
+            public Map<Type, TypeStatistics> getTypeStatistics() {
+                return Collections.emptyMap();
+            }
+        };
+    }
+
+    /**
+     * Returns a snapshot of the binding metadata currently retained by this {@code Jsonb} instance,
+     * such as the number of cached types and their estimated heap footprint.
+     *
+     * The default implementation returns a snapshot with no cached types.
+     *
+     * @return diagnostics snapshot, never {@code null}
+     *
+     * @see JsonbDiagnostics
+     * @since JSON Binding 3.1
+     */
+    default JsonbDiagnostics getDiagnostics() {
+        return new JsonbDiagnostics() {
+            @Override
+            public int getCachedTypeCount() {
+                return 0;
+            }
+
+            @Override
+            public long getEstimatedRetainedBytes() {
+                return 0;
+            }
+
+            @Override
+            public Map<Type, Long> getEstimatedRetainedBytesByType() {
+                return Collections.emptyMap();
+            }
+        };
+    }
+
+    /**
+     * Checks whether the characters are JSON whitespace only: space, horizontal tab, line feed or carriage return.
+     *
+     * @param chars characters to check
+     * @return true if all the characters are JSON whitespace
+     */
+    private static boolean isJsonWhitespace(CharSequence chars) {
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
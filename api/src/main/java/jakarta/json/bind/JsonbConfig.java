@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -18,11 +18,15 @@ package jakarta.json.bind;
 
 import jakarta.json.bind.adapter.JsonbAdapter;
 
+import jakarta.json.bind.config.BufferAllocator;
 import jakarta.json.bind.config.PropertyNamingStrategy;
 import jakarta.json.bind.config.PropertyVisibilityStrategy;
 
+import jakarta.json.bind.metrics.JsonbMetricsListener;
+
 import jakarta.json.bind.serializer.JsonbDeserializer;
 import jakarta.json.bind.serializer.JsonbSerializer;
+import jakarta.json.bind.spi.JsonbCodecProvider;
 
 import java.lang.reflect.Array;
 import java.util.Collections;
@@ -146,6 +150,42 @@ public class JsonbConfig {
      */
     public static final String CREATOR_PARAMETERS_REQUIRED = "jsonb.creator-parameters-required";
 
+    /**
+     * Property used to specify custom metrics listener.
+     */
+    public static final String METRICS_LISTENER = "jsonb.metrics-listener";
+
+    /**
+     * Property used to specify whether statistics should be collected.
+     */
+    public static final String STATISTICS = "jsonb.statistics";
+
+    /**
+     * Property used to specify custom buffer allocator.
+     */
+    public static final String BUFFER_ALLOCATOR = "jsonb.buffer-allocator";
+
+    /**
+     * Property used to specify the number of elements which collections, arrays and maps must exceed
+     * to be serialized in parallel.
+     */
+    public static final String PARALLEL_THRESHOLD = "jsonb.parallel-threshold";
+
+    /**
+     * Property used to specify custom codec provider.
+     */
+    public static final String CODEC_PROVIDER = "jsonb.codec-provider";
+
+    /**
+     * Property used to specify the size of deserialized streamed content kept in memory.
+     */
+    public static final String STREAMING_SPILL_THRESHOLD = "jsonb.streaming-spill-threshold";
+
+    /**
+     * Property used to specify the maximal number of properties preceding polymorphic type information.
+     */
+    public static final String POLYMORPHIC_BUFFER_LIMIT = "jsonb.polymorphic-buffer-limit";
+
     /**
      * Set the particular configuration property to a new value. The method can
      * only be used to set one of the standard JSON Binding properties defined in
@@ -421,6 +461,137 @@ public class JsonbConfig {
         return setProperty(CREATOR_PARAMETERS_REQUIRED, requiredParameters);
     }
 
+    /**
+     * Property used to specify listener notified about binding operations.
+     *
+     * Configures value of {@link #METRICS_LISTENER} property.
+     *
+     * @param metricsListener
+     *      Listener notified about metadata compilation, serialization, deserialization
+     *      and metadata cache usage.
+     *
+     * @return This JsonbConfig instance.
+     * @since JSON Binding 3.1
+     */
+    public final JsonbConfig withMetricsListener(final JsonbMetricsListener metricsListener) {
+        return setProperty(METRICS_LISTENER, metricsListener);
+    }
+
+    /**
+     * Property used to specify whether statistics available through {@link Jsonb#getStatistics()}
+     * should be collected.
+     * <br>
+     * Default value is {@code false}.
+     *
+     * Configures value of {@link #STATISTICS} property.
+     *
+     * @param enabled
+     *      True means statistics are collected.
+     *
+     * @return This JsonbConfig instance.
+     * @since JSON Binding 3.1
+     */
+    public final JsonbConfig withStatistics(final boolean enabled) {
+        return setProperty(STATISTICS, enabled);
+    }
+
+    /**
+     * Property used to specify allocator of the memory of {@link java.nio.IntBuffer}, {@link java.nio.LongBuffer}
+     * and {@link java.nio.DoubleBuffer} values created during deserialization.
+     * <br>
+     * Default value is {@link BufferAllocator#DIRECT}.
+     *
+     * Configures value of {@link #BUFFER_ALLOCATOR} property.
+     *
+     * @param bufferAllocator
+     *      Allocator of the buffers.
+     *
+     * @return This JsonbConfig instance.
+     * @since JSON Binding 3.1
+     */
+    public final JsonbConfig withBufferAllocator(final BufferAllocator bufferAllocator) {
+        return setProperty(BUFFER_ALLOCATOR, bufferAllocator);
+    }
+
+    /**
+     * Property used to specify the number of elements which a collection, array or map must exceed
+     * to be split into chunks serialized in parallel by {@link Jsonb#toJsonParallel(Object,
+     * java.lang.reflect.Type, java.io.OutputStream, java.util.concurrent.Executor)}.
+     * <br>
+     * Default value is implementation specific.
+     *
+     * Configures value of {@link #PARALLEL_THRESHOLD} property.
+     *
+     * @param threshold
+     *      Number of elements which must be exceeded to serialize in parallel. Must be positive.
+     *
+     * @return This JsonbConfig instance.
+     * @since JSON Binding 3.1
+     */
+    public final JsonbConfig withParallelThreshold(final int threshold) {
+        return setProperty(PARALLEL_THRESHOLD, threshold);
+    }
+
+    /**
+     * Property used to specify the provider of byte-level readers and writers of UTF-8 encoded JSON data
+     * used instead of JSON Processing parsers and generators.
+     * <br>
+     * If not specified, the provider returned by {@link JsonbCodecProvider#provider()} may be used.
+     *
+     * Configures value of {@link #CODEC_PROVIDER} property.
+     *
+     * @param codecProvider
+     *      Provider of the readers and writers.
+     *
+     * @return This JsonbConfig instance.
+     * @since JSON Binding 3.1
+     */
+    public final JsonbConfig withCodecProvider(final JsonbCodecProvider codecProvider) {
+        return setProperty(CODEC_PROVIDER, codecProvider);
+    }
+
+    /**
+     * Property used to specify the size of deserialized content of a streamed property,
+     * such as a property of {@link java.io.InputStream} or {@link java.io.Reader} type, which is kept in memory.
+     * The size is the number of bytes of binary content or the number of characters of text content.
+     * Larger content is written to a temporary file. The file of a deserialized stream, channel or reader
+     * is deleted when it is closed. The file of a deserialized {@link java.util.function.Supplier}
+     * is deleted when the {@link Jsonb} instance which deserialized it is closed.
+     * <br>
+     * Default value is implementation specific.
+     *
+     * Configures value of {@link #STREAMING_SPILL_THRESHOLD} property.
+     *
+     * @param threshold
+     *      Maximal number of bytes or characters kept in memory.
+     *
+     * @return This JsonbConfig instance.
+     * @since JSON Binding 3.1
+     */
+    public final JsonbConfig withStreamingSpillThreshold(final long threshold) {
+        return setProperty(STREAMING_SPILL_THRESHOLD, threshold);
+    }
+
+    /**
+     * Property used to specify the maximal number of properties of a polymorphic JSON object, which
+     * precede its type information properties and have to be buffered until the type is known.
+     * Deserialization of an object with more such properties fails. Zero requires the type information
+     * properties to be the first properties of the object.
+     * <br>
+     * By default, the number of buffered properties is not limited.
+     *
+     * Configures value of {@link #POLYMORPHIC_BUFFER_LIMIT} property.
+     *
+     * @param limit
+     *      Maximal number of buffered properties. Must not be negative.
+     *
+     * @return This JsonbConfig instance.
+     * @since JSON Binding 3.1
+     */
+    public final JsonbConfig withPolymorphicBufferLimit(final int limit) {
+        return setProperty(POLYMORPHIC_BUFFER_LIMIT, limit);
+    }
+
     @SuppressWarnings("unchecked")
     private <T> void mergeProperties(final String propertyKey, final T[] values, final Class<T> tClass) {
         final Optional<Object> property = getProperty(propertyKey);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -60,6 +60,27 @@ public @interface JsonbDateFormat {
      */
     String TIME_IN_MILLIS = "##time-in-millis";
 
+    /**
+     * Special date format which serializes given date as seconds since the epoch.
+     * Such date is serialized as the exact number of seconds in the shortest plain decimal notation:
+     * the fraction has trailing zeros removed, so it has one to nine digits, and is omitted
+     * if the date is a whole second. For example {@code 1700000000.12} or {@code -1.5}.
+     *
+     * @since JSON Binding 3.1
+     */
+    String EPOCH_SECONDS = "##epoch-seconds";
+
+    /**
+     * Special date format which serializes given date as nanoseconds since the epoch.
+     * Such date is serialized as an integral number in the range of {@code long}, which covers dates
+     * from {@code 1677-09-21T00:12:43.145224192Z} to {@code 2262-04-11T23:47:16.854775807Z}.
+     * Serialization of dates out of this range and deserialization of numbers out of this range
+     * fail with {@link jakarta.json.bind.JsonbException}.
+     *
+     * @since JSON Binding 3.1
+     */
+    String EPOCH_NANOS = "##epoch-nanos";
+
     /**
      * Specifies the date pattern to use.
      *
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Customizes the JSON value of an enum constant.</p>
+ *
+ * <p>The constant is serialized as the given value instead of its name, and both the value and
+ * the aliases are accepted when deserializing the constant. The name of the constant is accepted only
+ * if it is one of the aliases.</p>
+ *
+ * <pre><code>
+ * // Example
+ * enum Status {
+ *     {@literal @}JsonbEnumValue(value = "active", aliases = {"enabled"})
+ *     ACTIVE,
+ *     {@literal @}JsonbEnumValue("inactive")
+ *     INACTIVE
+ * }
+ * </code></pre>
+ *
+ * <p><b>Usage</b></p>
+ * <p>The {@code @JsonbEnumValue} annotation can be used with enum constants. It cannot be combined with
+ * {@link JsonbProperty} on the same constant. The annotation is ignored on fields which are not enum
+ * constants, including fields of an enum type; such fields are mapped as if they were not annotated.</p>
+ *
+ * @since JSON Binding 3.1
+ */
+@JsonbAnnotation
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.ANNOTATION_TYPE, ElementType.FIELD})
+public @interface JsonbEnumValue {
+
+    /**
+     * JSON value of the enum constant.
+     *
+     * @return JSON value
+     */
+    String value();
+
+    /**
+     * Additional JSON values accepted when deserializing the enum constant.
+     *
+     * @return accepted aliases
+     */
+    String[] aliases() default {};
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -41,6 +41,13 @@ import java.lang.annotation.Target;
  * for JSON-B via {@link jakarta.json.bind.JsonbConfig#withLocale(java.util.Locale)}.
  * </p>
  *
+ * <p>The pattern and the locale are resolved once for each annotated element, not for each formatted value.
+ * The resulting formatter and parser are immutable and can be used by concurrent serialization and
+ * deserialization operations of the same {@link jakarta.json.bind.Jsonb} instance. The formatted value is
+ * the same as the one of {@link java.text.DecimalFormat} with the given pattern and locale, even if the
+ * implementation does not use {@link java.text.DecimalFormat}.
+ * </p>
+ *
  * @since JSON Binding 1.0
  */
 @JsonbAnnotation
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -31,6 +31,8 @@ import java.lang.annotation.Target;
  *   <li> a JavaBean property </li>
  *   <li> field </li>
  *   <li> parameter </li>
+ *   <li> enum constant, which is then serialized and deserialized as the given name,
+ *        the same way as with {@link JsonbEnumValue} without aliases </li>
  * </ul>
  *
  * @since JSON Binding 1.0
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -21,6 +21,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import jakarta.json.bind.config.PropertyNamingStrategy;
+
 /**
  * Configuration annotation of the type information handling.
  * <br>
@@ -33,8 +35,26 @@ import java.lang.annotation.Target;
  * class Dog implements Animal {}
  * class Cat implements Animal {}
  * </code></pre>
- * This annotation is tightly bound to {@link JsonbSubtype}. It is required to use
- * {@link JsonbSubtype} annotations to specify all the possible classes and their aliases.
+ * This annotation is tightly bound to {@link JsonbSubtype}, which specifies the possible classes and their aliases.
+ * All the possible classes have to be specified by {@link JsonbSubtype} annotations, unless the annotated type
+ * is {@code sealed}.
+ * <br>
+ * If no {@link JsonbSubtype} is specified and the annotated type is {@code sealed}, subtypes are derived from
+ * its permitted subclasses. Alias of each subtype is derived from its simple name by {@link #aliasNaming()}.
+ * <pre><code>
+ * // Example
+ * {@literal @}JsonbTypeInfo(aliasNaming = PropertyNamingStrategy.LOWER_CASE_WITH_DASHES)
+ * sealed interface Payment permits CardPayment, BankTransfer {}
+ *
+ * record CardPayment(String card) implements Payment {}
+ * record BankTransfer(String iban) implements Payment {}
+ *
+ * jsonb.toJson(new CardPayment("1234"));// {"@type":"card-payment","card":"1234"}
+ * </code></pre>
+ * The type information property is serialized before any other property of the object.
+ * Deserialization of an object which starts with its type information properties does not require
+ * any buffering. Type information properties which follow other properties are supported up to
+ * the limit configured by {@link jakarta.json.bind.JsonbConfig#withPolymorphicBufferLimit(int)}.
  */
 @JsonbAnnotation
 @Retention(RetentionPolicy.RUNTIME)
@@ -61,4 +81,19 @@ public @interface JsonbTypeInfo {
      */
     JsonbSubtype[] value() default {};
 
+    /**
+     * Naming rule of the aliases of subtypes derived from permitted subclasses of a {@code sealed} type.
+     * The rule is one of the {@link PropertyNamingStrategy} constants except
+     * {@link PropertyNamingStrategy#CASE_INSENSITIVE}. It is applied to the simple name of the subtype
+     * with the first character converted to lower case, in the same way as to a property name.
+     * Default value is {@link PropertyNamingStrategy#UPPER_CAMEL_CASE}, which results in the simple name
+     * of the subtype.
+     * <br>
+     * Ignored, including an invalid value, if any {@link JsonbSubtype} is specified.
+     *
+     * @return alias naming rule
+     * @since JSON Binding 3.1
+     */
+    String aliasNaming() default PropertyNamingStrategy.UPPER_CAMEL_CASE;
+
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.config;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Allocates memory for {@link java.nio.IntBuffer}, {@link java.nio.LongBuffer} and
+ * {@link java.nio.DoubleBuffer} values created during deserialization.</p>
+ *
+ * <p>Implementations request a byte buffer of at least the given capacity, set its byte order
+ * to {@link java.nio.ByteOrder#nativeOrder()} and return a view of it, such as
+ * {@link ByteBuffer#asDoubleBuffer()}, as the deserialized value. If the number of elements
+ * of a JSON array is not known upfront, the allocator may be called more than once with growing
+ * capacity, and each buffer which is no longer used is passed to {@link #release(ByteBuffer)}.</p>
+ *
+ * <p>Allocator allows the deserialized values to be placed in off-heap memory managed by the application,
+ * for example, on Java 22 and newer, by an allocator returning
+ * {@code arena.allocate(capacity, Long.BYTES).asByteBuffer()}.</p>
+ *
+ * <p>This allocator can be set via {@link jakarta.json.bind.JsonbConfig#withBufferAllocator(BufferAllocator)}.</p>
+ *
+ * @see jakarta.json.bind.JsonbConfig
+ * @since JSON Binding 3.1
+ */
+@FunctionalInterface
+public interface BufferAllocator {
+
+    /**
+     * Allocator of direct byte buffers. This is the default allocator.
+     */
+    BufferAllocator DIRECT = ByteBuffer::allocateDirect;
+
+    /**
+     * Allocator of heap byte buffers.
+     */
+    BufferAllocator HEAP = ByteBuffer::allocate;
+
+    /**
+     * Allocates a byte buffer.
+     *
+     * @param capacity minimal capacity of the buffer in bytes
+     * @return byte buffer with position zero and the remaining capacity of at least the given capacity
+     */
+    ByteBuffer allocate(int capacity);
+
+    /**
+     * Notifies the allocator that the buffer previously returned by {@link #allocate(int)}
+     * is no longer used by the implementation. Buffers returned to the application as deserialized
+     * values are never released. Default implementation does nothing.
+     *
+     * @param buffer buffer which is no longer used
+     */
+    default void release(ByteBuffer buffer) {
+    }
+}
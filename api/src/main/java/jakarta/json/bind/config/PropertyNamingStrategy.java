@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -65,6 +65,10 @@ public interface PropertyNamingStrategy {
     /**
      * Translates the property name into its JSON field name representation.
      *
+     * Implementations call this method at most once for each property of a class
+     * and cache the result, so it is expected to return the same value for the same property name.
+     * It is never called for names read from JSON documents.
+     *
      * @param propertyName Name of the property to translate.
      * @return Translated JSON field name.
      */
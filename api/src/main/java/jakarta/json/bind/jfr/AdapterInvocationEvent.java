@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event emitted for each invocation of a {@link jakarta.json.bind.adapter.JsonbAdapter JsonbAdapter}.
+ * Type is the type being adapted. Number of bytes is not applicable to this event.
+ *
+ * @since JSON Binding 3.1
+ */
+@Name("jakarta.json.bind.AdapterInvocation")
+@Label("Adapter Invocation")
+@Description("JsonbAdapter has been invoked")
+public final class AdapterInvocationEvent extends JsonbEvent {
+
+    @Label("Adapter")
+    private Class<?> adapter;
+
+    @Label("To JSON")
+    @Description("True for adaptToJson, false for adaptFromJson invocation")
+    private boolean toJson;
+
+    /**
+     * Creates a new event.
+     */
+    public AdapterInvocationEvent() {
+    }
+
+    /**
+     * Sets the class of the invoked adapter.
+     *
+     * @param adapter
+     *      Adapter class.
+     */
+    public void setAdapter(final Class<?> adapter) {
+        this.adapter = adapter;
+    }
+
+    /**
+     * Sets the direction of the invocation.
+     *
+     * @param toJson
+     *      True if {@code adaptToJson} has been invoked, false if {@code adaptFromJson} has been invoked.
+     */
+    public void setToJson(final boolean toJson) {
+        this.toJson = toJson;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event emitted when a part of the JSON document has to be buffered before it can be bound,
+ * for example when the type information property of a polymorphic type is not the first property
+ * of a JSON object, or when creator parameters are not known until the whole JSON object is read.
+ * Type is the type being deserialized and number of bytes is the size of the buffered data.
+ *
+ * @since JSON Binding 3.1
+ */
+@Name("jakarta.json.bind.Buffering")
+@Label("Buffering")
+@Description("Part of the JSON document has been buffered before binding")
+public final class BufferingEvent extends JsonbEvent {
+
+    /**
+     * Reason used when buffering is caused by a polymorphic type.
+     */
+    public static final String POLYMORPHIC_TYPE = "polymorphic type";
+
+    /**
+     * Reason used when buffering is caused by a {@link jakarta.json.bind.annotation.JsonbCreator JsonbCreator}
+     * or a record canonical constructor.
+     */
+    public static final String CREATOR = "creator";
+
+    @Label("Reason")
+    private String reason;
+
+    /**
+     * Creates a new event.
+     */
+    public BufferingEvent() {
+    }
+
+    /**
+     * Sets the reason of the buffering. Either {@link #POLYMORPHIC_TYPE}, {@link #CREATOR}
+     * or an implementation specific reason.
+     *
+     * @param reason
+     *      Reason of the buffering.
+     */
+    public void setReason(final String reason) {
+        this.reason = reason;
+    }
+}
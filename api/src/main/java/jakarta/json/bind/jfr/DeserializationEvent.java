@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event emitted for each {@code fromJson} operation. Type is the runtime type of the root object
+ * and number of bytes is the size of the input.
+ *
+ * @since JSON Binding 3.1
+ */
+@Name("jakarta.json.bind.Deserialization")
+@Label("Deserialization")
+@Description("Jsonb.fromJson operation")
+public final class DeserializationEvent extends JsonbEvent {
+
+    /**
+     * Creates a new event.
+     */
+    public DeserializationEvent() {
+    }
+}
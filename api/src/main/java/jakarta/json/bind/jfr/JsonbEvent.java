@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.jfr;
+
+import java.lang.reflect.Type;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Common base of all JSON Binding events. Every event carries the processed type
+ * and the number of processed bytes. Duration of the event is measured
+ * between {@link #begin()} and {@link #end()} or {@link #commit()} calls.
+ *
+ * @since JSON Binding 3.1
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category({"Jakarta EE", "JSON Binding"})
+public abstract class JsonbEvent extends Event {
+
+    @Label("Type")
+    String type;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes = -1;
+
+    /**
+     * Protected constructor.
+     */
+    protected JsonbEvent() {
+    }
+
+    /**
+     * Sets the processed type.
+     *
+     * @param type
+     *      Processed type.
+     */
+    public void setType(final Type type) {
+        this.type = type == null ? null : type.getTypeName();
+    }
+
+    /**
+     * Sets the number of processed bytes, or characters if processing character based input or output.
+     * Default value is {@code -1} meaning the number is not known.
+     *
+     * @param bytes
+     *      Number of processed bytes.
+     */
+    public void setBytes(final long bytes) {
+        this.bytes = bytes;
+    }
+}
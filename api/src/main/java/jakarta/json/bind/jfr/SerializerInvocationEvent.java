@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Event emitted for each invocation of a {@link jakarta.json.bind.serializer.JsonbSerializer JsonbSerializer}
+ * or a {@link jakarta.json.bind.serializer.JsonbDeserializer JsonbDeserializer}. Type is the serialized
+ * or deserialized type. Number of bytes is not applicable to this event.
+ *
+ * @since JSON Binding 3.1
+ */
+@Name("jakarta.json.bind.SerializerInvocation")
+@Label("Serializer Invocation")
+@Description("JsonbSerializer or JsonbDeserializer has been invoked")
+public final class SerializerInvocationEvent extends JsonbEvent {
+
+    @Label("Serializer")
+    @Description("Class of the invoked serializer or deserializer")
+    private Class<?> serializer;
+
+    /**
+     * Creates a new event.
+     */
+    public SerializerInvocationEvent() {
+    }
+
+    /**
+     * Sets the class of the invoked serializer or deserializer.
+     *
+     * @param serializer
+     *      Serializer or deserializer class.
+     */
+    public void setSerializer(final Class<?> serializer) {
+        this.serializer = serializer;
+    }
+}
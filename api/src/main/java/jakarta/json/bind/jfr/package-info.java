@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+/**
+ * <p>
+ * Defines Java Flight Recorder events emitted by JSON Binding implementations.
+ * </p>
+ * <p>
+ * All the events are disabled by default and have to be enabled in the recording settings,
+ * for example using the {@code jdk.jfr.Recording#enable(String)} method with the event name.
+ * Implementations emit the events only if the {@code jdk.jfr} module is present in the runtime.
+ * Applications running on the module path may need to add it to the module graph
+ * with {@code --add-modules jdk.jfr}.
+ * </p>
+ * <p>Implementations are expected to emit the events in the following way:</p>
+ * <pre>
+ * SerializationEvent event = new SerializationEvent();
+ * event.begin();
+ * // serialization
+ * if (event.shouldCommit()) {
+ *     event.setType(runtimeType);
+ *     event.setBytes(writtenBytes);
+ *     event.commit();
+ * }
+ * </pre>
+ * @since JSON Binding 3.1
+ */
+package jakarta.json.bind.jfr;
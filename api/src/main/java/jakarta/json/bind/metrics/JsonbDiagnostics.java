@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.metrics;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * <p>Snapshot of the binding metadata retained by a {@link jakarta.json.bind.Jsonb Jsonb} instance.
+ * Snapshot is obtained by calling {@link jakarta.json.bind.Jsonb#getDiagnostics()} method. Values
+ * of the snapshot do not change after it has been created.</p>
+ *
+ * <p>Retained sizes are estimates of the heap memory which would be released if the metadata
+ * were removed from the cache. They are intended for sizing and comparison, not for exact accounting.
+ * Memory shared by several types is attributed to one of them only.</p>
+ *
+ * @see jakarta.json.bind.Jsonb#getDiagnostics()
+ * @since JSON Binding 3.1
+ */
+public interface JsonbDiagnostics {
+
+    /**
+     * Returns the number of types whose binding metadata is currently cached.
+     *
+     * @return number of cached types
+     */
+    int getCachedTypeCount();
+
+    /**
+     * Returns the estimated number of bytes retained by the binding metadata of all the cached types
+     * together with any other caches of the {@code Jsonb} instance.
+     *
+     * @return estimated retained bytes
+     */
+    long getEstimatedRetainedBytes();
+
+    /**
+     * Returns the estimated number of bytes retained by the binding metadata of each cached type.
+     *
+     * @return unmodifiable map of estimated retained bytes keyed by the cached type, never {@code null}
+     */
+    Map<Type, Long> getEstimatedRetainedBytesByType();
+}
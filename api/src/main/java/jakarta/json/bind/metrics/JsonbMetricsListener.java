@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.metrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * <p>Listener notified by the JSON Binding runtime about binding operations performed by a
+ * {@link jakarta.json.bind.Jsonb Jsonb} instance. It allows applications to find out which types
+ * dominate serialization and deserialization costs without attaching a profiler.</p>
+ *
+ * <p>Listener is registered using {@link jakarta.json.bind.JsonbConfig#withMetricsListener(JsonbMetricsListener)}
+ * method. If no listener is registered, {@link #NO_OP} is used. Implementations are required not to take any
+ * measurements (such as reading the system timer or counting written bytes) when {@link #NO_OP} listener
+ * is in use.</p>
+ *
+ * <p>All the methods have an empty default implementation, so only the callbacks of interest
+ * need to be overridden. Listener methods can be called by multiple concurrent threads and are
+ * called synchronously from the binding operation, therefore they should return quickly
+ * and must be thread safe.</p>
+ *
+ * <p>Sample of a listener:</p>
+ * <pre>
+ * class SlowTypesListener implements JsonbMetricsListener {
+ *      public void onSerialized(Type type, long bytes, long durationNanos) {
+ *          if (durationNanos &gt; TimeUnit.MILLISECONDS.toNanos(10)) {
+ *              LOGGER.warning("Slow serialization of " + type.getTypeName());
+ *          }
+ *      }
+ * }
+ * </pre>
+ *
+ * @see jakarta.json.bind.JsonbConfig#withMetricsListener(JsonbMetricsListener)
+ * @see JsonbStatistics
+ * @since JSON Binding 3.1
+ */
+public interface JsonbMetricsListener {
+
+    /**
+     * Listener which ignores all the notifications. Used when no other listener is registered.
+     */
+    JsonbMetricsListener NO_OP = new JsonbMetricsListener() { };
+
+    /**
+     * Called when the runtime has built the binding metadata (class model) of the given type.
+     *
+     * @param type
+     *      Type whose metadata has been built.
+     * @param durationNanos
+     *      Time spent building the metadata in nanoseconds.
+     */
+    default void onMetadataCompiled(Type type, long durationNanos) {
+    }
+
+    /**
+     * Called when a {@code toJson} operation has completed successfully.
+     *
+     * @param type
+     *      Runtime type of the serialized root object.
+     * @param bytes
+     *      Number of bytes written, number of characters written if the output is a character
+     *      based one, or {@code -1} if the size of the output is not known.
+     * @param durationNanos
+     *      Duration of the operation in nanoseconds.
+     */
+    default void onSerialized(Type type, long bytes, long durationNanos) {
+    }
+
+    /**
+     * Called when a {@code fromJson} operation has completed successfully.
+     *
+     * @param type
+     *      Runtime type of the deserialized root object.
+     * @param bytes
+     *      Number of bytes read, number of characters read if the input is a character
+     *      based one, or {@code -1} if the size of the input is not known.
+     * @param durationNanos
+     *      Duration of the operation in nanoseconds.
+     */
+    default void onDeserialized(Type type, long bytes, long durationNanos) {
+    }
+
+    /**
+     * Called when binding metadata of the given type has been found in the metadata cache.
+     *
+     * @param type
+     *      Type whose metadata has been looked up.
+     */
+    default void onCacheHit(Type type) {
+    }
+
+    /**
+     * Called when binding metadata of the given type has not been found in the metadata cache.
+     * Usually followed by {@link #onMetadataCompiled(Type, long)}.
+     *
+     * @param type
+     *      Type whose metadata has been looked up.
+     */
+    default void onCacheMiss(Type type) {
+    }
+
+    /**
+     * Called when binding metadata of the given type has been removed from the metadata cache.
+     *
+     * @param type
+     *      Type whose metadata has been evicted.
+     */
+    default void onCacheEviction(Type type) {
+    }
+}
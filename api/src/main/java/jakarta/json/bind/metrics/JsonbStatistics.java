@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.metrics;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * <p>Snapshot of statistics collected by a {@link jakarta.json.bind.Jsonb Jsonb} instance.
+ * Snapshot is obtained by calling {@link jakarta.json.bind.Jsonb#getStatistics()} method. Values
+ * of the snapshot do not change after it has been created.</p>
+ *
+ * <p>Statistics are collected only if enabled by
+ * {@link jakarta.json.bind.JsonbConfig#withStatistics(boolean)}. Otherwise all the counters
+ * are zero and no type statistics are present.</p>
+ *
+ * <p>Values are cumulative since the creation of the {@code Jsonb} instance. Durations are
+ * in nanoseconds.</p>
+ *
+ * @see jakarta.json.bind.Jsonb#getStatistics()
+ * @see JsonbMetricsListener
+ * @since JSON Binding 3.1
+ */
+public interface JsonbStatistics {
+
+    /**
+     * Returns the number of metadata cache lookups which found the metadata in the cache.
+     *
+     * @return number of cache hits
+     */
+    long getCacheHits();
+
+    /**
+     * Returns the number of metadata cache lookups which did not find the metadata in the cache.
+     *
+     * @return number of cache misses
+     */
+    long getCacheMisses();
+
+    /**
+     * Returns the number of metadata entries removed from the metadata cache.
+     *
+     * @return number of cache evictions
+     */
+    long getCacheEvictions();
+
+    /**
+     * Returns the statistics of all the types serialized or deserialized as a root type,
+     * or whose metadata has been built.
+     *
+     * @return unmodifiable map of statistics keyed by type, never {@code null}
+     */
+    Map<Type, TypeStatistics> getTypeStatistics();
+
+    /**
+     * Statistics collected for a single type.
+     */
+    interface TypeStatistics {
+
+        /**
+         * Returns the type this statistics belongs to.
+         *
+         * @return type
+         */
+        Type getType();
+
+        /**
+         * Returns the total time spent building the binding metadata of the type.
+         *
+         * @return duration in nanoseconds
+         */
+        long getMetadataCompilationNanos();
+
+        /**
+         * Returns the number of completed {@code toJson} operations with this root type.
+         *
+         * @return number of serializations
+         */
+        long getSerializationCount();
+
+        /**
+         * Returns the number of bytes written by {@code toJson} operations with this root type.
+         * Operations with output of unknown size are not included.
+         *
+         * @return number of bytes written
+         */
+        long getSerializedBytes();
+
+        /**
+         * Returns the total time spent in {@code toJson} operations with this root type.
+         *
+         * @return duration in nanoseconds
+         */
+        long getSerializationNanos();
+
+        /**
+         * Returns the number of completed {@code fromJson} operations with this root type.
+         *
+         * @return number of deserializations
+         */
+        long getDeserializationCount();
+
+        /**
+         * Returns the number of bytes read by {@code fromJson} operations with this root type.
+         * Operations with input of unknown size are not included.
+         *
+         * @return number of bytes read
+         */
+        long getDeserializedBytes();
+
+        /**
+         * Returns the total time spent in {@code fromJson} operations with this root type.
+         *
+         * @return duration in nanoseconds
+         */
+        long getDeserializationNanos();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -17,7 +17,12 @@
 package jakarta.json.bind.serializer;
 
 
+import jakarta.json.bind.JsonbException;
 import jakarta.json.stream.JsonParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.lang.reflect.Type;
 
 /**
@@ -77,4 +82,191 @@ public interface DeserializationContext {
      * @return Deserialized instance.
      */
     <T> T deserialize(Type type, JsonParser parser);
+
+    /**
+     * Deserializes JSON array into {@code int} array using {@link jakarta.json.stream.JsonParser}.
+     * JsonParser cursor has to be at the same position as required by {@link #deserialize(Type, JsonParser)}.
+     * Elements are read in the same way as by default mapping of {@code int[]}.
+     * Default implementation delegates to {@link #deserialize(Type, JsonParser)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @return Deserialized array.
+     * @since JSON Binding 3.1
+     */
+    default int[] readIntArray(JsonParser parser) {
+        return deserialize(int[].class, parser);
+    }
+
+    /**
+     * Deserializes JSON array into {@code int} array using {@link jakarta.json.stream.JsonParser}.
+     * Same as {@link #readIntArray(JsonParser)}, with the expected number of elements,
+     * which implementations can use to allocate the array of the right size upfront.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @param sizeHint
+     *      Expected number of elements, does not need to be exact.
+     * @return Deserialized array.
+     * @since JSON Binding 3.1
+     */
+    default int[] readIntArray(JsonParser parser, int sizeHint) {
+        return readIntArray(parser);
+    }
+
+    /**
+     * Deserializes JSON array into {@code long} array using {@link jakarta.json.stream.JsonParser}.
+     * JsonParser cursor has to be at the same position as required by {@link #deserialize(Type, JsonParser)}.
+     * Elements are read in the same way as by default mapping of {@code long[]}.
+     * Default implementation delegates to {@link #deserialize(Type, JsonParser)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @return Deserialized array.
+     * @since JSON Binding 3.1
+     */
+    default long[] readLongArray(JsonParser parser) {
+        return deserialize(long[].class, parser);
+    }
+
+    /**
+     * Deserializes JSON array into {@code long} array using {@link jakarta.json.stream.JsonParser}.
+     * Same as {@link #readLongArray(JsonParser)}, with the expected number of elements,
+     * which implementations can use to allocate the array of the right size upfront.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @param sizeHint
+     *      Expected number of elements, does not need to be exact.
+     * @return Deserialized array.
+     * @since JSON Binding 3.1
+     */
+    default long[] readLongArray(JsonParser parser, int sizeHint) {
+        return readLongArray(parser);
+    }
+
+    /**
+     * Deserializes JSON array into {@code double} array using {@link jakarta.json.stream.JsonParser}.
+     * JsonParser cursor has to be at the same position as required by {@link #deserialize(Type, JsonParser)}.
+     * Elements are read in the same way as by default mapping of {@code double[]}.
+     * Default implementation delegates to {@link #deserialize(Type, JsonParser)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @return Deserialized array.
+     * @since JSON Binding 3.1
+     */
+    default double[] readDoubleArray(JsonParser parser) {
+        return deserialize(double[].class, parser);
+    }
+
+    /**
+     * Deserializes JSON array into {@code double} array using {@link jakarta.json.stream.JsonParser}.
+     * Same as {@link #readDoubleArray(JsonParser)}, with the expected number of elements,
+     * which implementations can use to allocate the array of the right size upfront.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @param sizeHint
+     *      Expected number of elements, does not need to be exact.
+     * @return Deserialized array.
+     * @since JSON Binding 3.1
+     */
+    default double[] readDoubleArray(JsonParser parser, int sizeHint) {
+        return readDoubleArray(parser);
+    }
+
+    /**
+     * Deserializes JSON array into {@code float} array using {@link jakarta.json.stream.JsonParser}.
+     * JsonParser cursor has to be at the same position as required by {@link #deserialize(Type, JsonParser)}.
+     * Elements are read in the same way as by default mapping of {@code float[]}.
+     * Default implementation delegates to {@link #deserialize(Type, JsonParser)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @return Deserialized array.
+     * @since JSON Binding 3.1
+     */
+    default float[] readFloatArray(JsonParser parser) {
+        return deserialize(float[].class, parser);
+    }
+
+    /**
+     * Deserializes JSON array into {@code float} array using {@link jakarta.json.stream.JsonParser}.
+     * Same as {@link #readFloatArray(JsonParser)}, with the expected number of elements,
+     * which implementations can use to allocate the array of the right size upfront.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @param sizeHint
+     *      Expected number of elements, does not need to be exact.
+     * @return Deserialized array.
+     * @since JSON Binding 3.1
+     */
+    default float[] readFloatArray(JsonParser parser, int sizeHint) {
+        return readFloatArray(parser);
+    }
+
+    /**
+     * Deserializes binary data and writes them to the provided sink, using {@link jakarta.json.stream.JsonParser}.
+     * JsonParser cursor has to be at the same position as required by {@link #deserialize(Type, JsonParser)}.
+     * Data are read in the same way as {@code byte[]} with the configured
+     * {@link jakarta.json.bind.config.BinaryDataStrategy}, but implementations are required to write
+     * the data to the sink in chunks as they are decoded, without keeping the whole data in memory,
+     * if supported by the parser. The sink is not closed.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @param sink
+     *      Stream to write the deserialized data to.
+     * @return Number of bytes written to the sink, or {@code -1} if the JSON value is {@code null}.
+     * @throws JsonbException
+     *      If an I/O error occurs while writing to the sink.
+     * @since JSON Binding 3.1
+     */
+    default long readBinary(JsonParser parser, OutputStream sink) {
+        byte[] data = deserialize(byte[].class, parser);
+        if (data == null) {
+            return -1;
+        }
+        try {
+            sink.write(data);
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+        return data.length;
+    }
+
+    /**
+     * Deserializes JSON string and writes its unescaped characters to the provided sink,
+     * using {@link jakarta.json.stream.JsonParser}.
+     * JsonParser cursor has to be at the same position as required by {@link #deserialize(Type, JsonParser)}.
+     * Implementations are required to write the characters to the sink in chunks as they are read,
+     * without keeping the whole string in memory, if supported by the parser. The sink is not closed.
+     *
+     * @param parser
+     *      JSONP parser to drive.
+     * @param sink
+     *      Writer to write the deserialized characters to.
+     * @return Number of characters written to the sink, or {@code -1} if the JSON value is {@code null}.
+     * @throws JsonbException
+     *      If an I/O error occurs while writing to the sink.
+     * @since JSON Binding 3.1
+     */
+    default long readText(JsonParser parser, Writer sink) {
+        String text = deserialize(String.class, parser);
+        if (text == null) {
+            return -1;
+        }
+        try {
+            sink.write(text);
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+        return text.length();
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.serializer;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * <p>Custom serializer of {@code double} values which avoids boxing.</p>
+ *
+ * <p>Serializer is registered the same way as any other {@link JsonbSerializer} of {@code Double} type.
+ * When it is used for a property, record component or array element
+ * of {@code double} type, implementations call {@link #serializeDouble(double, JsonGenerator, SerializationContext)}
+ * with the primitive value directly. Values of {@code Double} type are serialized by
+ * {@link #serialize(Double, JsonGenerator, SerializationContext)}, which by default unboxes
+ * the value and delegates to the primitive method.</p>
+ *
+ * @see JsonbDoubleDeserializer
+ * @since JSON Binding 3.1
+ */
+public interface JsonbDoubleSerializer extends JsonbSerializer<Double> {
+
+    /**
+     * Serializes {@code double} value into JSON stream.
+     *
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSON generator used to write the value to JSON stream.
+     * @param ctx
+     *      JSONB mapper context.
+     */
+    void serializeDouble(double value, JsonGenerator generator, SerializationContext ctx);
+
+    /**
+     * Serializes boxed value by delegating to {@link #serializeDouble(double, JsonGenerator, SerializationContext)}.
+     *
+     * @param obj
+     *      Value to serialize, never {@code null}.
+     * @param generator
+     *      JSON generator used to write the value to JSON stream.
+     * @param ctx
+     *      JSONB mapper context.
+     */
+    @Override
+    default void serialize(Double obj, JsonGenerator generator, SerializationContext ctx) {
+        serializeDouble(obj, generator, ctx);
+    }
+}
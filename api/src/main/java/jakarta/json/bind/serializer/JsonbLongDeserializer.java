@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.serializer;
+
+import java.lang.reflect.Type;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * <p>Custom deserializer of {@code long} values which avoids boxing.</p>
+ *
+ * <p>Deserializer is registered the same way as any other {@link JsonbDeserializer} of {@code Long} type.
+ * When it is used for a property, record component, creator parameter or array element
+ * of {@code long} type, implementations call {@link #deserializeLong(JsonParser, DeserializationContext)}
+ * and use the returned primitive value directly. Values of {@code Long} type are deserialized by
+ * {@link #deserialize(JsonParser, DeserializationContext, Type)}, which by default boxes
+ * the value returned by the primitive method.</p>
+ *
+ * @see JsonbLongSerializer
+ * @since JSON Binding 3.1
+ */
+public interface JsonbLongDeserializer extends JsonbDeserializer<Long> {
+
+    /**
+     * Deserializes {@code long} value from JSON stream.
+     *
+     * @param parser
+     *      Json parser.
+     * @param ctx
+     *      Deserialization context.
+     * @return Deserialized value.
+     */
+    long deserializeLong(JsonParser parser, DeserializationContext ctx);
+
+    /**
+     * Deserializes boxed value by delegating to {@link #deserializeLong(JsonParser, DeserializationContext)}.
+     *
+     * @param parser
+     *      Json parser.
+     * @param ctx
+     *      Deserialization context.
+     * @param rtType
+     *      Type of returned object.
+     * @return Deserialized value.
+     */
+    @Override
+    default Long deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+        return deserializeLong(parser, ctx);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.serializer;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * <p>Custom serializer of {@code long} values which avoids boxing.</p>
+ *
+ * <p>Serializer is registered the same way as any other {@link JsonbSerializer} of {@code Long} type.
+ * When it is used for a property, record component or array element
+ * of {@code long} type, implementations call {@link #serializeLong(long, JsonGenerator, SerializationContext)}
+ * with the primitive value directly. Values of {@code Long} type are serialized by
+ * {@link #serialize(Long, JsonGenerator, SerializationContext)}, which by default unboxes
+ * the value and delegates to the primitive method.</p>
+ *
+ * @see JsonbLongDeserializer
+ * @since JSON Binding 3.1
+ */
+public interface JsonbLongSerializer extends JsonbSerializer<Long> {
+
+    /**
+     * Serializes {@code long} value into JSON stream.
+     *
+     * @param value
+     *      Value to serialize.
+     * @param generator
+     *      JSON generator used to write the value to JSON stream.
+     * @param ctx
+     *      JSONB mapper context.
+     */
+    void serializeLong(long value, JsonGenerator generator, SerializationContext ctx);
+
+    /**
+     * Serializes boxed value by delegating to {@link #serializeLong(long, JsonGenerator, SerializationContext)}.
+     *
+     * @param obj
+     *      Value to serialize, never {@code null}.
+     * @param generator
+     *      JSON generator used to write the value to JSON stream.
+     * @param ctx
+     *      JSONB mapper context.
+     */
+    @Override
+    default void serialize(Long obj, JsonGenerator generator, SerializationContext ctx) {
+        serializeLong(obj, generator, ctx);
+    }
+}
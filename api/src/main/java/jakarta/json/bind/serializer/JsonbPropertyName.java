@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * JSON property name escaped and encoded once, so that it can be written repeatedly
+ * without escaping and encoding it on every call.
+ *
+ * Instances are immutable and can be shared between threads, typically as constants of custom serializers:
+ * <pre>
+ * {@code
+ * private static final JsonbPropertyName ID = JsonbPropertyName.of("id");
+ * ...
+ * serializationContext.serialize(ID, value.getId(), generator);
+ * }</pre>
+ *
+ * @see SerializationContext#propertyName(String)
+ * @since JSON Binding 3.1
+ */
+public final class JsonbPropertyName {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String name;
+
+    private final String escapedName;
+
+    private final byte[] escapedUtf8;
+
+    private JsonbPropertyName(String name) {
+        this.name = name;
+        this.escapedName = escape(name);
+        this.escapedUtf8 = escapedName.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates property name.
+     *
+     * @param name
+     *      Property name.
+     * @return property name instance
+     * @throws NullPointerException if the name is {@code null}
+     */
+    public static JsonbPropertyName of(String name) {
+        return new JsonbPropertyName(Objects.requireNonNull(name));
+    }
+
+    /**
+     * Returns the property name as it was created.
+     *
+     * @return property name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the property name escaped as JSON string content, without the quotation marks.
+     *
+     * @return escaped property name
+     */
+    public String getEscapedName() {
+        return escapedName;
+    }
+
+    /**
+     * Returns the number of bytes of the escaped property name encoded as UTF-8.
+     *
+     * @return length of the UTF-8 form
+     */
+    public int getEscapedUtf8Length() {
+        return escapedUtf8.length;
+    }
+
+    /**
+     * Copies the escaped property name encoded as UTF-8, without the quotation marks, to the array.
+     *
+     * @param destination
+     *      Array the bytes are copied to.
+     * @param offset
+     *      Offset in the array of the first copied byte.
+     * @return number of copied bytes
+     * @throws IndexOutOfBoundsException if the bytes do not fit in the array
+     */
+    public int copyEscapedUtf8(byte[] destination, int offset) {
+        System.arraycopy(escapedUtf8, 0, destination, offset, escapedUtf8.length);
+        return escapedUtf8.length;
+    }
+
+    /**
+     * Returns the escaped property name encoded as UTF-8, without the quotation marks.
+     *
+     * @return new array with the UTF-8 form
+     */
+    public byte[] toEscapedUtf8() {
+        return escapedUtf8.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof JsonbPropertyName && name.equals(((JsonbPropertyName) o).name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    private static String escape(String name) {
+        StringBuilder builder = null;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            String replacement;
+            switch (c) {
+            case '"':
+                replacement = "\\\"";
+                break;
+            case '\\':
+                replacement = "\\\\";
+                break;
+            case '\b':
+                replacement = "\\b";
+                break;
+            case '\f':
+                replacement = "\\f";
+                break;
+            case '\n':
+                replacement = "\\n";
+                break;
+            case '\r':
+                replacement = "\\r";
+                break;
+            case '\t':
+                replacement = "\\t";
+                break;
+            default:
+                replacement = c < 0x20 ? "\\u00" + HEX[c >> 4] + HEX[c & 0xF] : null;
+            }
+            if (replacement != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(name.length() + 8).append(name, 0, i);
+                }
+                builder.append(replacement);
+            } else if (builder != null) {
+                builder.append(c);
+            }
+        }
+        return builder == null ? name : builder.toString();
+    }
+}
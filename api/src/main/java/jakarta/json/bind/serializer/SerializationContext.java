@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -16,6 +16,12 @@
 
 package jakarta.json.bind.serializer;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+
+import jakarta.json.bind.JsonbException;
 import jakarta.json.stream.JsonGenerator;
 
 /**
@@ -57,4 +63,311 @@ public interface SerializationContext {
      *      Type of serialized object.
      */
     <T> void serialize(T object, JsonGenerator generator);
+
+    /**
+     * Creates property name escaped and encoded once, which can be written repeatedly by
+     * {@link #serialize(JsonbPropertyName, Object, JsonGenerator)} and {@link #writeKey(JsonbPropertyName, JsonGenerator)}.
+     * Returned instance is not bound to this context and can be cached by the serializer.
+     *
+     * @param name
+     *      JSON key name.
+     * @return property name instance
+     * @since JSON Binding 3.1
+     */
+    default JsonbPropertyName propertyName(String name) {
+        return JsonbPropertyName.of(name);
+    }
+
+    /**
+     * Serializes arbitrary object to JSON, using current {@link jakarta.json.stream.JsonGenerator} instance,
+     * in the same way as {@link #serialize(String, Object, JsonGenerator)} does.
+     * Implementations are required to write the pre-encoded form of the name
+     * without escaping or encoding it again when the output is written by a
+     * {@link jakarta.json.bind.spi.JsonbCodecWriter}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param object
+     *      Object to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @param <T>
+     *      Type of serialized object.
+     * @since JSON Binding 3.1
+     */
+    default <T> void serialize(JsonbPropertyName key, T object, JsonGenerator generator) {
+        serialize(key.getName(), object, generator);
+    }
+
+    /**
+     * Writes JSON key name in the current JSON object context, using current
+     * {@link jakarta.json.stream.JsonGenerator} instance, in the same way as {@link JsonGenerator#writeKey(String)} does.
+     * Implementations are required to write the pre-encoded form of the name
+     * without escaping or encoding it again when the output is written by a
+     * {@link jakarta.json.bind.spi.JsonbCodecWriter}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param generator
+     *      JSONP generator to write with.
+     * @since JSON Binding 3.1
+     */
+    default void writeKey(JsonbPropertyName key, JsonGenerator generator) {
+        generator.writeKey(key.getName());
+    }
+
+    /**
+     * Serializes {@code int} array to JSON array, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Elements are written in the same way as by default mapping of {@code int[]}.
+     * Default implementation delegates to {@link #serialize(String, Object, JsonGenerator)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     * {@code null} array is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param array
+     *      Array to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 3.1
+     */
+    default void writeArray(String key, int[] array, JsonGenerator generator) {
+        serialize(key, array, generator);
+    }
+
+    /**
+     * Serializes {@code int} array to JSON array, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Elements are written in the same way as by default mapping of {@code int[]}.
+     * Default implementation delegates to {@link #serialize(Object, JsonGenerator)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param array
+     *      Array to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 3.1
+     */
+    default void writeArray(int[] array, JsonGenerator generator) {
+        serialize(array, generator);
+    }
+
+    /**
+     * Serializes {@code long} array to JSON array, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Elements are written in the same way as by default mapping of {@code long[]}.
+     * Default implementation delegates to {@link #serialize(String, Object, JsonGenerator)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     * {@code null} array is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param array
+     *      Array to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 3.1
+     */
+    default void writeArray(String key, long[] array, JsonGenerator generator) {
+        serialize(key, array, generator);
+    }
+
+    /**
+     * Serializes {@code long} array to JSON array, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Elements are written in the same way as by default mapping of {@code long[]}.
+     * Default implementation delegates to {@link #serialize(Object, JsonGenerator)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param array
+     *      Array to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 3.1
+     */
+    default void writeArray(long[] array, JsonGenerator generator) {
+        serialize(array, generator);
+    }
+
+    /**
+     * Serializes {@code double} array to JSON array, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Elements are written in the same way as by default mapping of {@code double[]}.
+     * Default implementation delegates to {@link #serialize(String, Object, JsonGenerator)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     * {@code null} array is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param array
+     *      Array to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 3.1
+     */
+    default void writeArray(String key, double[] array, JsonGenerator generator) {
+        serialize(key, array, generator);
+    }
+
+    /**
+     * Serializes {@code double} array to JSON array, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Elements are written in the same way as by default mapping of {@code double[]}.
+     * Default implementation delegates to {@link #serialize(Object, JsonGenerator)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param array
+     *      Array to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 3.1
+     */
+    default void writeArray(double[] array, JsonGenerator generator) {
+        serialize(array, generator);
+    }
+
+    /**
+     * Serializes {@code float} array to JSON array, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Elements are written in the same way as by default mapping of {@code float[]}.
+     * Default implementation delegates to {@link #serialize(String, Object, JsonGenerator)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     * {@code null} array is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param array
+     *      Array to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 3.1
+     */
+    default void writeArray(String key, float[] array, JsonGenerator generator) {
+        serialize(key, array, generator);
+    }
+
+    /**
+     * Serializes {@code float} array to JSON array, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Elements are written in the same way as by default mapping of {@code float[]}.
+     * Default implementation delegates to {@link #serialize(Object, JsonGenerator)},
+     * which may box the elements; implementations overriding this method are required not to box them.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param array
+     *      Array to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @since JSON Binding 3.1
+     */
+    default void writeArray(float[] array, JsonGenerator generator) {
+        serialize(array, generator);
+    }
+
+    /**
+     * Serializes binary data read from the stream, using current {@link jakarta.json.stream.JsonGenerator} instance.
+     * Data are written in the same way as {@code byte[]} with the configured
+     * {@link jakarta.json.bind.config.BinaryDataStrategy}. Implementations should encode and write the data
+     * in chunks as they are read, without reading the whole stream into memory, if supported by the generator.
+     * The stream is read to its end, but it is not closed.
+     * {@code null} stream is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)}.
+     * Default implementation reads the whole stream and serializes it as {@code byte[]}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param data
+     *      Stream of the data to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @throws JsonbException
+     *      If an I/O error occurs while reading the stream.
+     * @since JSON Binding 3.1
+     */
+    default void writeBinary(String key, InputStream data, JsonGenerator generator) {
+        serialize(key, readAllBytes(data), generator);
+    }
+
+    /**
+     * Serializes binary data read from the stream, using current {@link jakarta.json.stream.JsonGenerator} instance,
+     * in the same way as {@link #writeBinary(String, InputStream, JsonGenerator)} does.
+     * Default implementation reads the whole stream and serializes it as {@code byte[]}.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param data
+     *      Stream of the data to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @throws JsonbException
+     *      If an I/O error occurs while reading the stream.
+     * @since JSON Binding 3.1
+     */
+    default void writeBinary(InputStream data, JsonGenerator generator) {
+        serialize(readAllBytes(data), generator);
+    }
+
+    /**
+     * Serializes characters read from the reader to JSON string, using current
+     * {@link jakarta.json.stream.JsonGenerator} instance. Characters are escaped in the same way as
+     * characters of {@link String}. Implementations should escape and write the characters in chunks
+     * as they are read, without reading the whole text into memory, if supported by the generator.
+     * The reader is read to its end, but it is not closed.
+     * {@code null} reader is serialized the same way as by {@link #serialize(String, Object, JsonGenerator)}.
+     *
+     * @param key
+     *      JSON key name.
+     * @param text
+     *      Reader of the text to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @throws JsonbException
+     *      If an I/O error occurs while reading the text.
+     * @since JSON Binding 3.1
+     */
+    default void writeText(String key, Reader text, JsonGenerator generator) {
+        serialize(key, readAll(text), generator);
+    }
+
+    /**
+     * Serializes characters read from the reader to JSON string, using current
+     * {@link jakarta.json.stream.JsonGenerator} instance, in the same way as
+     * {@link #writeText(String, Reader, JsonGenerator)} does.
+     *
+     * Method without key parameter is intended to serialize inside JSON_ARRAYs.
+     *
+     * @param text
+     *      Reader of the text to serialize.
+     * @param generator
+     *      JSONP generator to serialize with.
+     * @throws JsonbException
+     *      If an I/O error occurs while reading the text.
+     * @since JSON Binding 3.1
+     */
+    default void writeText(Reader text, JsonGenerator generator) {
+        serialize(readAll(text), generator);
+    }
+
+    private static byte[] readAllBytes(InputStream data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return data.readAllBytes();
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+    }
+
+    private static String readAll(Reader text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            StringWriter writer = new StringWriter();
+            text.transferTo(writer);
+            return writer.toString();
+        } catch (IOException e) {
+            throw new JsonbException(e.getMessage(), e);
+        }
+    }
 }
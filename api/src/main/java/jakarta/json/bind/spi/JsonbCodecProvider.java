@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.spi;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Service provider of byte-level JSON readers and writers used by JSON Binding implementations
+ * instead of {@link jakarta.json.stream.JsonParser} and {@link jakarta.json.stream.JsonGenerator}.
+ *
+ * Codec readers and writers operate directly on UTF-8 encoded data. They allow implementations
+ * to match property names and to parse and format numbers without creating intermediate {@code String}
+ * instances, and providers to use any scanning technique, such as vectorized scanning of the input.
+ *
+ * Codec provider used by a {@link jakarta.json.bind.Jsonb} instance is either configured by
+ * {@link jakarta.json.bind.JsonbConfig#withCodecProvider(JsonbCodecProvider)} or obtained by calling:
+ * <pre>
+ * {@code
+ * Optional<JsonbCodecProvider> provider = JsonbCodecProvider.provider();
+ * }</pre>
+ * where the provider is a class extending {@link JsonbCodecProvider} and identified to service loader
+ * as specified in {@link java.util.ServiceLoader} documentation.
+ * <br>
+ * All the methods in this class are allowed to be called by multiple concurrent
+ * threads.
+ *
+ * @see JsonbCodecReader
+ * @see JsonbCodecWriter
+ * @since JSON Binding 3.1
+ */
+public abstract class JsonbCodecProvider {
+
+    /**
+     * Protected constructor.
+     */
+    protected JsonbCodecProvider() {
+    }
+
+    /**
+     * Returns the first codec provider found by the {@link java.util.ServiceLoader#load(Class)} method.
+     *
+     * @see java.util.ServiceLoader
+     *
+     * @return codec provider, or empty optional if there are no available service providers
+     */
+    public static Optional<JsonbCodecProvider> provider() {
+        Iterator<JsonbCodecProvider> it = ServiceLoader.load(JsonbCodecProvider.class).iterator();
+        return it.hasNext() ? Optional.of(it.next()) : Optional.empty();
+    }
+
+    /**
+     * Creates a reader of UTF-8 encoded JSON data from the byte stream.
+     *
+     * @param stream
+     *      Stream of UTF-8 encoded JSON data.
+     *
+     * @return new reader instance
+     */
+    public abstract JsonbCodecReader createReader(InputStream stream);
+
+    /**
+     * Creates a reader of UTF-8 encoded JSON data from the remaining bytes of the buffer.
+     * The buffer may be direct, for example a buffer mapped from a file.
+     *
+     * @param buffer
+     *      Buffer of UTF-8 encoded JSON data.
+     *
+     * @return new reader instance
+     */
+    public abstract JsonbCodecReader createReader(ByteBuffer buffer);
+
+    /**
+     * Creates a writer of UTF-8 encoded JSON data to the byte stream.
+     *
+     * @param stream
+     *      Stream the UTF-8 encoded JSON data is written to.
+     *
+     * @return new writer instance
+     */
+    public abstract JsonbCodecWriter createWriter(OutputStream stream);
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.spi;
+
+import java.io.Closeable;
+import java.math.BigDecimal;
+
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Byte-level reader of UTF-8 encoded JSON data created by {@link JsonbCodecProvider}.
+ *
+ * The reader reports the same sequence of {@link JsonParser.Event events} as {@link JsonParser}
+ * does, but allows property names to be matched against pre-encoded names and numbers to be read
+ * as primitive values without creating intermediate {@code String} instances.
+ *
+ * When a custom {@link jakarta.json.bind.serializer.JsonbDeserializer} or other code requires
+ * {@link JsonParser}, the implementation obtains it by {@link #asParser()}.
+ *
+ * Instances of this interface are not required to be thread safe.
+ *
+ * @see JsonbCodecProvider
+ * @since JSON Binding 3.1
+ */
+public interface JsonbCodecReader extends Closeable {
+
+    /**
+     * Returns {@code true} if there are more events.
+     *
+     * @return {@code true} if there are more events
+     * @throws jakarta.json.bind.JsonbException if the data cannot be read
+     */
+    boolean hasNext();
+
+    /**
+     * Returns the next event.
+     *
+     * @return the next event
+     * @throws java.util.NoSuchElementException if there are no more events
+     * @throws jakarta.json.bind.JsonbException if the data cannot be read or is not valid JSON
+     */
+    JsonParser.Event next();
+
+    /**
+     * Matches the property name of the current {@link JsonParser.Event#KEY_NAME KEY_NAME} event
+     * against the candidate names without decoding it.
+     *
+     * @param names
+     *      Candidate names, each encoded as UTF-8 bytes without escape sequences.
+     *
+     * @return index of the matching name, or {@code -1} if none of the names matches
+     * @throws IllegalStateException if the current event is not {@code KEY_NAME}
+     */
+    int matchName(byte[][] names);
+
+    /**
+     * Returns the property name of the current {@code KEY_NAME} event or the value of the current
+     * {@code VALUE_STRING} or {@code VALUE_NUMBER} event.
+     *
+     * @return the name or value
+     * @throws IllegalStateException if the current event is not {@code KEY_NAME}, {@code VALUE_STRING}
+     *      or {@code VALUE_NUMBER}
+     */
+    String getString();
+
+    /**
+     * Returns {@code true} if the number of the current {@code VALUE_NUMBER} event is integral.
+     *
+     * @return whether the number is integral
+     * @throws IllegalStateException if the current event is not {@code VALUE_NUMBER}
+     */
+    boolean isIntegralNumber();
+
+    /**
+     * Returns the number of the current {@code VALUE_NUMBER} event as {@code int},
+     * as {@link JsonParser#getInt()} does.
+     *
+     * @return the number
+     * @throws IllegalStateException if the current event is not {@code VALUE_NUMBER}
+     */
+    int getInt();
+
+    /**
+     * Returns the number of the current {@code VALUE_NUMBER} event as {@code long},
+     * as {@link JsonParser#getLong()} does.
+     *
+     * @return the number
+     * @throws IllegalStateException if the current event is not {@code VALUE_NUMBER}
+     */
+    long getLong();
+
+    /**
+     * Returns the number of the current {@code VALUE_NUMBER} event as {@code double},
+     * correctly rounded from its decimal representation.
+     *
+     * @return the number
+     * @throws IllegalStateException if the current event is not {@code VALUE_NUMBER}
+     */
+    double getDouble();
+
+    /**
+     * Returns the number of the current {@code VALUE_NUMBER} event as {@link BigDecimal}.
+     *
+     * @return the number
+     * @throws IllegalStateException if the current event is not {@code VALUE_NUMBER}
+     */
+    BigDecimal getBigDecimal();
+
+    /**
+     * Skips the current value. If the current event is {@code START_OBJECT} or {@code START_ARRAY},
+     * events up to and including the corresponding end event are skipped.
+     */
+    void skipValue();
+
+    /**
+     * Returns {@link JsonParser} reading the same data from the current event. Events read by the returned
+     * parser are consumed from this reader, and reading continues with this reader after the returned parser
+     * has been used. The parser must not be closed.
+     *
+     * @return parser positioned at the current event
+     */
+    JsonParser asParser();
+}
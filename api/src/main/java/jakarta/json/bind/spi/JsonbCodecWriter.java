@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package jakarta.json.bind.spi;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.math.BigDecimal;
+
+import jakarta.json.bind.serializer.JsonbPropertyName;
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Byte-level writer of UTF-8 encoded JSON data created by {@link JsonbCodecProvider}.
+ *
+ * The writer allows property names to be written in pre-encoded form and numbers to be written
+ * without creating intermediate {@code String} instances. The writer validates the structure of the
+ * written data in the same way as {@link JsonGenerator} does.
+ *
+ * When a custom {@link jakarta.json.bind.serializer.JsonbSerializer} or other code requires
+ * {@link JsonGenerator}, the implementation obtains it by {@link #asGenerator()}.
+ *
+ * Instances of this interface are not required to be thread safe.
+ *
+ * @see JsonbCodecProvider
+ * @since JSON Binding 3.1
+ */
+public interface JsonbCodecWriter extends Closeable, Flushable {
+
+    /**
+     * Writes the start of a JSON object.
+     */
+    void writeStartObject();
+
+    /**
+     * Writes the start of a JSON array.
+     */
+    void writeStartArray();
+
+    /**
+     * Writes the end of the current JSON object or array.
+     */
+    void writeEnd();
+
+    /**
+     * Writes a property name of the current JSON object.
+     *
+     * @param name property name
+     */
+    void writeName(String name);
+
+    /**
+     * Writes a property name of the current JSON object, already escaped and encoded as UTF-8,
+     * without the quotation marks. The bytes are copied to the output as they are.
+     *
+     * @param escapedName escaped property name encoded as UTF-8
+     */
+    void writeName(byte[] escapedName);
+
+    /**
+     * Writes a pre-encoded property name of the current JSON object.
+     * Default implementation writes {@link JsonbPropertyName#toEscapedUtf8()} by {@link #writeName(byte[])}.
+     *
+     * @param name property name
+     */
+    default void writeName(JsonbPropertyName name) {
+        writeName(name.toEscapedUtf8());
+    }
+
+    /**
+     * Writes a JSON string.
+     *
+     * @param value string value
+     */
+    void write(String value);
+
+    /**
+     * Writes a JSON number.
+     *
+     * @param value number value
+     */
+    void write(int value);
+
+    /**
+     * Writes a JSON number.
+     *
+     * @param value number value
+     */
+    void write(long value);
+
+    /**
+     * Writes a JSON number in the shortest decimal form which is read back as the same {@code double}.
+     *
+     * @param value number value
+     * @throws NumberFormatException if the value is NaN or infinity
+     */
+    void write(double value);
+
+    /**
+     * Writes a JSON number.
+     *
+     * @param value number value
+     */
+    void write(BigDecimal value);
+
+    /**
+     * Writes a JSON true or false value.
+     *
+     * @param value boolean value
+     */
+    void write(boolean value);
+
+    /**
+     * Writes a JSON null value.
+     */
+    void writeNull();
+
+    /**
+     * Returns {@link JsonGenerator} writing to the same output in the current context. Data written by
+     * the returned generator becomes part of the output of this writer, and writing continues with this writer
+     * after the returned generator has been used. The generator must not be closed.
+     *
+     * @return generator writing in the current context
+     */
+    JsonGenerator asGenerator();
+}
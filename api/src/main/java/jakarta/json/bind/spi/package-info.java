@@ -25,6 +25,11 @@
  * {@link jakarta.json.bind.JsonbBuilder JsonbBuilder} creation
  * method(s) in {@link jakarta.json.bind.spi.JsonbProvider JsonbProvider}.
  *
+ * <p> {@link jakarta.json.bind.spi.JsonbCodecProvider JsonbCodecProvider} is an abstract class
+ * that provides byte-level {@link jakarta.json.bind.spi.JsonbCodecReader readers} and
+ * {@link jakarta.json.bind.spi.JsonbCodecWriter writers} of UTF-8 encoded JSON data, which
+ * implementations can use instead of JSON Processing parsers and generators.
+ *
  * <p>The API locates and loads providers using {@link java.util.ServiceLoader ServiceLoader}.
  *
  * @since JSON Binding 1.0
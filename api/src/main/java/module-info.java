@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2021 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -22,11 +22,15 @@ module jakarta.json.bind {
     exports jakarta.json.bind.adapter;
     exports jakarta.json.bind.annotation;
     exports jakarta.json.bind.config;
+    exports jakarta.json.bind.jfr;
+    exports jakarta.json.bind.metrics;
     exports jakarta.json.bind.serializer;
     exports jakarta.json.bind.spi;
 
     requires jakarta.json;
     requires java.logging;
+    requires static transitive jdk.jfr;
 
+    uses jakarta.json.bind.spi.JsonbCodecProvider;
     uses jakarta.json.bind.spi.JsonbProvider;
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization throughput of the TCK model classes.
+ *
+ * @see ModelCorpus
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CorpusBenchmark {
+
+    /**
+     * Name of the {@link ModelCorpus} sample.
+     */
+    @Param({
+            "basictypes.IntegerContainer",
+            "basictypes.StringContainer",
+            "arrays.PrimitiveArrayContainer",
+            "collections.ListContainer",
+            "collections.MapContainer",
+            "attributeorder.ExtendedContainer",
+            "propertynames.PropertyNameCustomizationContainer",
+            "propertyorder.CustomOrderContainer",
+            "numberformat.FieldCustomizedDoubleContainer",
+            "dateformat.AnnotatedFieldDateContainer",
+            "adapters.AnimalShelterAdapted",
+            "records.IntegerContainer",
+            "records.StringContainer",
+            "instantiation.SimpleCreatorRecord",
+            "polymorphictypes.Animal[]"
+    })
+    public String model;
+
+    private Type type;
+    private Object instance;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void prepare(JsonbState state) {
+        ModelCorpus.Sample sample = ModelCorpus.get(model);
+        type = sample.type();
+        instance = sample.instance().get();
+        json = state.jsonb().toJson(instance, type);
+    }
+
+    @Benchmark
+    public String serialize(JsonbState state) {
+        return state.jsonb().toJson(instance, type);
+    }
+
+    @Benchmark
+    public Object deserialize(JsonbState state) {
+        return state.jsonb().fromJson(json, type);
+    }
+}
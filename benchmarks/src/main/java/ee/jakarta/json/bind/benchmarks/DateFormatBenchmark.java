@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.annotation.JsonbDateFormat;
+
+import ee.jakarta.json.bind.benchmarks.model.SyntheticPayloads;
+import ee.jakarta.json.bind.benchmarks.model.TimestampEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization of a list of events with {@code Instant}, {@code OffsetDateTime},
+ * {@code ZonedDateTime} and {@code Date} properties with each date format.
+ * <br>
+ * The {@code default} format uses the ISO 8601 forms, {@code pattern} uses a custom pattern and the
+ * remaining formats are the {@link JsonbDateFormat} special values. The {@link JsonbDateFormat#EPOCH_SECONDS}
+ * and {@link JsonbDateFormat#EPOCH_NANOS} formats require a JSON Binding 3.1 provider.
+ *
+ * @see TimestampEvent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class DateFormatBenchmark {
+
+    private static final int SIZE = 1000;
+
+    private List<TimestampEvent> instance;
+    private String json;
+
+    /**
+     * {@link jakarta.json.bind.Jsonb} instance configured with the date format under test.
+     */
+    public static class DateFormatState extends JsonbState {
+
+        /**
+         * Date format, {@code default}, {@code pattern} or one of the {@link JsonbDateFormat} special values.
+         */
+        @Param({"default", "pattern", JsonbDateFormat.TIME_IN_MILLIS, JsonbDateFormat.EPOCH_SECONDS,
+                JsonbDateFormat.EPOCH_NANOS})
+        public String format;
+
+        @Override
+        protected JsonbConfig config() {
+            if ("default".equals(format)) {
+                return new JsonbConfig();
+            }
+            if ("pattern".equals(format)) {
+                return new JsonbConfig().withDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSSXXX", Locale.ROOT);
+            }
+            return new JsonbConfig().withDateFormat(format, Locale.ROOT);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void prepare(DateFormatState state) {
+        instance = SyntheticPayloads.events(SIZE);
+        json = state.jsonb().toJson(instance, SyntheticPayloads.EVENT_LIST);
+    }
+
+    @Benchmark
+    public String serialize(DateFormatState state) {
+        return state.jsonb().toJson(instance, SyntheticPayloads.EVENT_LIST);
+    }
+
+    @Benchmark
+    public List<TimestampEvent> deserialize(DateFormatState state) {
+        return state.jsonb().fromJson(json, SyntheticPayloads.EVENT_LIST);
+    }
+}
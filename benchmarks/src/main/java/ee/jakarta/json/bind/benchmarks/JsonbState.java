@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared {@link Jsonb} instance of the provider under test.
+ * <br>
+ * Provider is selected by the {@code provider} parameter, which is passed to
+ * {@link JsonbBuilder#newBuilder(String)}. Several providers can be compared in a single run
+ * by putting all of them on the class path and running with {@code -p provider=a.Provider,b.Provider}.
+ */
+@State(Scope.Benchmark)
+public class JsonbState {
+
+    /**
+     * Class name of the {@link jakarta.json.bind.spi.JsonbProvider} under test.
+     */
+    @Param({"org.eclipse.yasson.JsonBindingProvider"})
+    public String provider;
+
+    private Jsonb jsonb;
+
+    @Setup(Level.Trial)
+    public void createJsonb() {
+        jsonb = JsonbBuilder.newBuilder(provider).withConfig(config()).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeJsonb() throws Exception {
+        jsonb.close();
+    }
+
+    /**
+     * Configuration used to create the {@link Jsonb} instance.
+     *
+     * @return configuration
+     */
+    protected JsonbConfig config() {
+        return new JsonbConfig();
+    }
+
+    public Jsonb jsonb() {
+        return jsonb;
+    }
+}
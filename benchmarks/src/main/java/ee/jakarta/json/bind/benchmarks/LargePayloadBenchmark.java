@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+import ee.jakarta.json.bind.benchmarks.model.SyntheticPayloads;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Streaming serialization and deserialization of large synthetic payloads.
+ *
+ * @see SyntheticPayloads
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LargePayloadBenchmark {
+
+    /**
+     * Kind of the payload: list of beans, list of records or primitive array.
+     */
+    @Param({"beans", "records", "doubles"})
+    public String payload;
+
+    /**
+     * Number of payload elements.
+     */
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Type type;
+    private Object instance;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void prepare(JsonbState state) {
+        switch (payload) {
+        case "beans":
+            type = SyntheticPayloads.ITEM_LIST;
+            instance = SyntheticPayloads.items(size);
+            break;
+        case "records":
+            type = SyntheticPayloads.READING_LIST;
+            instance = SyntheticPayloads.readings(size);
+            break;
+        case "doubles":
+            type = double[].class;
+            instance = SyntheticPayloads.doubles(size);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown payload " + payload);
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        state.jsonb().toJson(instance, type, output);
+        json = output.toByteArray();
+    }
+
+    @Benchmark
+    public int serialize(JsonbState state, OutputState output) {
+        ByteArrayOutputStream stream = output.reset();
+        state.jsonb().toJson(instance, type, stream);
+        return stream.size();
+    }
+
+    @Benchmark
+    public Object deserialize(JsonbState state) {
+        return state.jsonb().fromJson(new ByteArrayInputStream(json), type);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks;
+
+import java.lang.reflect.Type;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import ee.jakarta.tck.json.bind.customizedmapping.adapters.model.AnimalShelterAdapted;
+import ee.jakarta.tck.json.bind.customizedmapping.adapters.model.Cat;
+import ee.jakarta.tck.json.bind.customizedmapping.adapters.model.Dog;
+import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.AnnotatedFieldDateContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.instantiation.model.SimpleCreatorRecord;
+import ee.jakarta.tck.json.bind.customizedmapping.numberformat.model.FieldCustomizedDoubleContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.propertynames.model.PropertyNameCustomizationContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.propertyorder.model.CustomOrderContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.arrays.model.PrimitiveArrayContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.attributeorder.model.ExtendedContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.basictypes.model.IntegerContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.basictypes.model.StringContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.collections.model.ListContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.collections.model.MapContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.polymorphictypes.AnnotationTypeInfoTest;
+
+/**
+ * Named samples of the TCK model classes used by the benchmarks.
+ * <br>
+ * Every sample consists of the type used for binding and a supplier of an instance to serialize.
+ * Names are {@code <tck area>.<model class>}.
+ */
+public final class ModelCorpus {
+
+    private static final Map<String, Sample> SAMPLES = new LinkedHashMap<>();
+
+    static {
+        add("basictypes.IntegerContainer", IntegerContainer.class, () -> {
+            IntegerContainer container = new IntegerContainer();
+            container.setInstance(Integer.MAX_VALUE);
+            return container;
+        });
+        add("basictypes.StringContainer", StringContainer.class, () -> {
+            StringContainer container = new StringContainer();
+            container.setInstance("Test String with \"quotes\" and \\ escapes");
+            return container;
+        });
+        add("arrays.PrimitiveArrayContainer", PrimitiveArrayContainer.class, () -> {
+            PrimitiveArrayContainer container = new PrimitiveArrayContainer();
+            container.setInstance(IntStream.range(0, 100).toArray());
+            return container;
+        });
+        add("collections.ListContainer", ListContainer.class, () -> {
+            ListContainer container = new ListContainer();
+            container.setInstance(IntStream.range(0, 100).mapToObj(i -> "item" + i).collect(Collectors.toList()));
+            return container;
+        });
+        add("collections.MapContainer", MapContainer.class, () -> {
+            MapContainer container = new MapContainer();
+            container.setInstance(IntStream.range(0, 100).boxed()
+                                          .collect(Collectors.toMap(i -> "key" + i, i -> "value" + i)));
+            return container;
+        });
+        add("attributeorder.ExtendedContainer", ExtendedContainer.class, () -> {
+            ExtendedContainer container = new ExtendedContainer();
+            container.setIntInstance(1);
+            container.setStringInstance("Test String");
+            container.setLongInstance(Long.MAX_VALUE);
+            container.setShortInstance(Short.MAX_VALUE);
+            container.setFloatInstance(1.5f);
+            return container;
+        });
+        add("propertynames.PropertyNameCustomizationContainer", PropertyNameCustomizationContainer.class, () -> {
+            PropertyNameCustomizationContainer container = new PropertyNameCustomizationContainer();
+            container.setInstance("Test String");
+            return container;
+        });
+        add("propertyorder.CustomOrderContainer", CustomOrderContainer.class, () -> {
+            CustomOrderContainer container = new CustomOrderContainer();
+            container.setIntInstance(1);
+            container.setStringInstance("Test String");
+            container.setLongInstance(Long.MAX_VALUE);
+            return container;
+        });
+        add("numberformat.FieldCustomizedDoubleContainer", FieldCustomizedDoubleContainer.class, () -> {
+            FieldCustomizedDoubleContainer container = new FieldCustomizedDoubleContainer();
+            container.setInstance(123456.789);
+            return container;
+        });
+        add("dateformat.AnnotatedFieldDateContainer", AnnotatedFieldDateContainer.class, () -> {
+            AnnotatedFieldDateContainer container = new AnnotatedFieldDateContainer();
+            container.setInstance(new Date(1_500_000_000_000L));
+            return container;
+        });
+        add("adapters.AnimalShelterAdapted", AnimalShelterAdapted.class, () -> {
+            AnimalShelterAdapted shelter = new AnimalShelterAdapted();
+            shelter.addAnimal(new Cat(5, "Garfield", 10.5f, true, true));
+            shelter.addAnimal(new Dog(3, "Milo", 5.5f, false, true));
+            return shelter;
+        });
+        add("records.IntegerContainer",
+            ee.jakarta.tck.json.bind.defaultmapping.records.model.IntegerContainer.class,
+            () -> new ee.jakarta.tck.json.bind.defaultmapping.records.model.IntegerContainer(Integer.MAX_VALUE));
+        add("records.StringContainer",
+            ee.jakarta.tck.json.bind.defaultmapping.records.model.StringContainer.class,
+            () -> new ee.jakarta.tck.json.bind.defaultmapping.records.model.StringContainer("Test String"));
+        add("instantiation.SimpleCreatorRecord", SimpleCreatorRecord.class,
+            () -> new SimpleCreatorRecord("Test String", 1, 1.5f));
+        add("polymorphictypes.Animal[]", AnnotationTypeInfoTest.Animal[].class, () -> new AnnotationTypeInfoTest.Animal[] {
+                new AnnotationTypeInfoTest.Dog(), new AnnotationTypeInfoTest.Cat(), new AnnotationTypeInfoTest.Elephant()});
+    }
+
+    private ModelCorpus() {
+    }
+
+    private static void add(String name, Type type, Supplier<Object> instance) {
+        SAMPLES.put(name, new Sample(type, instance));
+    }
+
+    /**
+     * Returns the sample registered under the given name.
+     *
+     * @param name sample name
+     * @return sample
+     * @throws IllegalArgumentException if there is no such sample
+     */
+    public static Sample get(String name) {
+        Sample sample = SAMPLES.get(name);
+        if (sample == null) {
+            throw new IllegalArgumentException("Unknown model " + name + ", available models: " + names());
+        }
+        return sample;
+    }
+
+    /**
+     * Returns names of all the registered samples.
+     *
+     * @return sample names
+     */
+    public static Set<String> names() {
+        return SAMPLES.keySet();
+    }
+
+    /**
+     * Model sample.
+     *
+     * @param type type used for binding
+     * @param instance supplier of the instance to serialize
+     */
+    public record Sample(Type type, Supplier<Object> instance) {
+    }
+}
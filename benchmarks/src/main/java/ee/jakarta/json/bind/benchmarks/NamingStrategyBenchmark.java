@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.config.PropertyNamingStrategy;
+
+import ee.jakarta.json.bind.benchmarks.model.WideBean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization of a bean with 50 properties with each property naming strategy.
+ * <br>
+ * With {@code CASE_INSENSITIVE} strategy, the deserialized document contains upper case property names.
+ * The {@code custom} strategy converts names to lower case with underscores by a regular expression,
+ * so that the cost of calling it repeatedly would be visible.
+ *
+ * @see WideBean
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NamingStrategyBenchmark {
+
+    private WideBean instance;
+    private String json;
+
+    /**
+     * {@link Jsonb} instance configured with the property naming strategy under test.
+     */
+    public static class NamingState extends JsonbState {
+
+        /**
+         * Property naming strategy, one of {@link PropertyNamingStrategy} constants or {@code custom}.
+         */
+        @Param({"IDENTITY", "LOWER_CASE_WITH_DASHES", "LOWER_CASE_WITH_UNDERSCORES", "UPPER_CAMEL_CASE",
+                "UPPER_CAMEL_CASE_WITH_SPACES", "CASE_INSENSITIVE", "custom"})
+        public String strategy;
+
+        @Override
+        protected JsonbConfig config() {
+            if ("custom".equals(strategy)) {
+                return new JsonbConfig().withPropertyNamingStrategy(
+                        name -> name.replaceAll("([a-z])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT));
+            }
+            return new JsonbConfig().withPropertyNamingStrategy(strategy);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void prepare(NamingState state) throws Exception {
+        instance = WideBean.sample(42);
+        if (PropertyNamingStrategy.CASE_INSENSITIVE.equals(state.strategy)) {
+            try (Jsonb upperCase = JsonbBuilder.newBuilder(state.provider)
+                    .withConfig(new JsonbConfig().withPropertyNamingStrategy(name -> name.toUpperCase(Locale.ROOT)))
+                    .build()) {
+                json = upperCase.toJson(instance);
+            }
+        } else {
+            json = state.jsonb().toJson(instance);
+        }
+    }
+
+    @Benchmark
+    public String serialize(NamingState state) {
+        return state.jsonb().toJson(instance);
+    }
+
+    @Benchmark
+    public WideBean deserialize(NamingState state) {
+        return state.jsonb().fromJson(json, WideBean.class);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import jakarta.json.bind.annotation.JsonbNumberFormat;
+
+import ee.jakarta.json.bind.benchmarks.model.GroupingPatternQuote;
+import ee.jakarta.json.bind.benchmarks.model.OptionalDigitsPatternQuote;
+import ee.jakarta.json.bind.benchmarks.model.PlainQuote;
+import ee.jakarta.json.bind.benchmarks.model.Quote;
+import ee.jakarta.json.bind.benchmarks.model.SimplePatternQuote;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Serialization and deserialization of an array of quotes with four {@code double} properties
+ * customized by {@link JsonbNumberFormat}.
+ * <br>
+ * The {@code none} format uses the default number representation, {@code simple} the {@code #0.00}
+ * pattern, {@code optional} the {@code 0.###} pattern, whose fraction digits are optional, and
+ * {@code grouping} the {@code #,##0.00} pattern. The {@code concurrent} benchmarks share
+ * one {@link jakarta.json.bind.Jsonb} instance between four threads, so that the cost of locking
+ * or copying a formatter for each value would be visible.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class NumberFormatBenchmark {
+
+    private static final int SIZE = 1000;
+
+    /**
+     * Number format of the quote properties, {@code none}, {@code simple}, {@code optional} or
+     * {@code grouping}.
+     */
+    @Param({"none", "simple", "optional", "grouping"})
+    public String format;
+
+    private Object instance;
+    private Class<?> type;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void prepare(JsonbState state) {
+        Random random = new Random(42);
+        switch (format) {
+        case "none":
+            instance = quotes(new PlainQuote[SIZE], PlainQuote::new, random);
+            break;
+        case "simple":
+            instance = quotes(new SimplePatternQuote[SIZE], SimplePatternQuote::new, random);
+            break;
+        case "optional":
+            instance = quotes(new OptionalDigitsPatternQuote[SIZE], OptionalDigitsPatternQuote::new, random);
+            break;
+        case "grouping":
+            instance = quotes(new GroupingPatternQuote[SIZE], GroupingPatternQuote::new, random);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        type = instance.getClass();
+        json = state.jsonb().toJson(instance);
+    }
+
+    private static <T extends Quote> T[] quotes(T[] quotes, Supplier<T> factory, Random random) {
+        for (int i = 0; i < quotes.length; i++) {
+            quotes[i] = factory.get();
+            quotes[i].setValues(price(random), price(random), price(random), random.nextGaussian());
+        }
+        return quotes;
+    }
+
+    private static double price(Random random) {
+        return random.nextInt(10_000_000) / 100.0;
+    }
+
+    @Benchmark
+    public String serialize(JsonbState state) {
+        return state.jsonb().toJson(instance);
+    }
+
+    @Benchmark
+    public Object deserialize(JsonbState state) {
+        return state.jsonb().fromJson(json, type);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String serializeConcurrent(JsonbState state) {
+        return state.jsonb().toJson(instance);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object deserializeConcurrent(JsonbState state) {
+        return state.jsonb().fromJson(json, type);
+    }
+}
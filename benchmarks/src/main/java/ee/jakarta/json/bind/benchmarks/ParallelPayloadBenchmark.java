@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import ee.jakarta.json.bind.benchmarks.model.SyntheticItem;
+import ee.jakarta.json.bind.benchmarks.model.SyntheticPayloads;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parallel serialization and deserialization of a large root array of synthetic beans and parallel reading
+ * of the beans as newline-delimited JSON, compared with the sequential operations.
+ *
+ * @see SyntheticPayloads
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ParallelPayloadBenchmark {
+
+    /**
+     * Number of root array elements.
+     */
+    @Param({"100000", "1000000"})
+    public int size;
+
+    /**
+     * Parallelism of the pool used by the parallel operations.
+     */
+    @Param({"1", "4", "16"})
+    public int parallelism;
+
+    private ForkJoinPool pool;
+    private List<SyntheticItem> instance;
+    private byte[] json;
+    private byte[] jsonLines;
+
+    @Setup(Level.Trial)
+    public void prepare(JsonbState state) {
+        pool = new ForkJoinPool(parallelism);
+        instance = SyntheticPayloads.items(size);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        state.jsonb().toJson(instance, SyntheticPayloads.ITEM_LIST, output);
+        json = output.toByteArray();
+        StringBuilder lines = new StringBuilder();
+        for (SyntheticItem item : instance) {
+            lines.append(state.jsonb().toJson(item)).append('\n');
+        }
+        jsonLines = lines.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int serialize(JsonbState state, OutputState output) {
+        ByteArrayOutputStream stream = output.reset();
+        state.jsonb().toJson(instance, SyntheticPayloads.ITEM_LIST, stream);
+        return stream.size();
+    }
+
+    @Benchmark
+    public int serializeParallel(JsonbState state, OutputState output) {
+        ByteArrayOutputStream stream = output.reset();
+        state.jsonb().toJsonParallel(instance, SyntheticPayloads.ITEM_LIST, stream, pool);
+        return stream.size();
+    }
+
+    @Benchmark
+    public Object deserialize(JsonbState state) {
+        return state.jsonb().fromJson(new ByteArrayInputStream(json), SyntheticPayloads.ITEM_LIST);
+    }
+
+    @Benchmark
+    public Object deserializeParallel(JsonbState state) {
+        return state.jsonb().fromJsonParallel(new ByteArrayInputStream(json), SyntheticPayloads.ITEM_LIST, pool);
+    }
+
+    @Benchmark
+    public void readJsonLines(JsonbState state, Blackhole blackhole) {
+        state.jsonb().readJsonLinesParallel(new ByteArrayInputStream(jsonLines), SyntheticItem.class,
+                                            blackhole::consume, 1);
+    }
+
+    @Benchmark
+    public long readJsonLinesParallel(JsonbState state) {
+        // the consumer may be called concurrently, so values are only counted
+        LongAdder count = new LongAdder();
+        state.jsonb().<SyntheticItem>readJsonLinesParallel(new ByteArrayInputStream(jsonLines), SyntheticItem.class,
+                                                           item -> count.increment(), parallelism, false);
+        return count.sum();
+    }
+}
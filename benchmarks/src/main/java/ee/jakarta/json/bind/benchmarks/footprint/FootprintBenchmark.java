@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks.footprint;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.metrics.JsonbDiagnostics;
+
+import ee.jakarta.json.bind.benchmarks.startup.DtoGenerator;
+
+/**
+ * Heap retained by the binding metadata of many classes.
+ * <br>
+ * Generates the given number of classes (option {@code --classes=N}, default {@code 1000}), loads them
+ * and then binds all of them with a single {@link Jsonb} instance of the provider given by the
+ * {@code --provider} option (default the compatible implementation). Retained heap is the difference
+ * of the used heap after a full garbage collection before the {@link Jsonb} instance is created
+ * and after all the classes are bound. The retained heap is compared with the estimate reported
+ * by {@link Jsonb#getDiagnostics()}.
+ * <br>
+ * Run with a fixed heap size and a single threaded collector to get stable results,
+ * for example {@code -Xms1g -Xmx1g -XX:+UseSerialGC}.
+ */
+public final class FootprintBenchmark {
+
+    private FootprintBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int count = 1000;
+        String provider = "org.eclipse.yasson.JsonBindingProvider";
+        for (String arg : args) {
+            if (arg.startsWith("--classes=")) {
+                count = Integer.parseInt(arg.substring("--classes=".length()));
+            } else if (arg.startsWith("--provider=")) {
+                provider = arg.substring("--provider=".length());
+            } else {
+                throw new IllegalArgumentException("Unsupported argument " + arg
+                                                           + ", expected --classes=N or --provider=class");
+            }
+        }
+        Path jar = DtoGenerator.generate(count, Files.createTempFile("jsonb-footprint", ".jar"));
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {jar.toUri().toURL()},
+                                                        FootprintBenchmark.class.getClassLoader())) {
+            measure(count, provider, loader);
+        } finally {
+            DtoGenerator.delete(jar);
+        }
+    }
+
+    private static void measure(int count, String provider, ClassLoader loader) throws Exception {
+        Class<?>[] types = new Class<?>[count];
+        Object[] samples = new Object[count];
+        String[] documents = new String[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = Class.forName(DtoGenerator.className(i), true, loader);
+            samples[i] = types[i].getMethod("sample").invoke(null);
+            documents[i] = (String) types[i].getField("JSON").get(null);
+        }
+
+        long baseline = usedHeapAfterGc();
+        Jsonb jsonb = JsonbBuilder.newBuilder(provider).build();
+        for (int i = 0; i < count; i++) {
+            jsonb.toJson(samples[i]);
+            jsonb.fromJson(documents[i], types[i]);
+        }
+        long retained = usedHeapAfterGc() - baseline;
+
+        System.out.printf("Classes bound:            %d%n", count);
+        if (retained <= 0) {
+            // heap usage after GC is noisy, a small footprint can be lost in it
+            System.out.printf("Retained heap:            not measurable (%d bytes after GC)%n", retained);
+        } else {
+            System.out.printf("Retained heap:            %d bytes%n", retained);
+            System.out.printf("Retained heap per class:  %d bytes%n", retained / count);
+        }
+        JsonbDiagnostics diagnostics = jsonb.getDiagnostics();
+        if (diagnostics.getCachedTypeCount() == 0) {
+            System.out.println("No cached types reported by " + jsonb.getClass().getName());
+        } else {
+            System.out.printf("Reported cached types:    %d%n", diagnostics.getCachedTypeCount());
+            if (retained <= 0) {
+                System.out.printf("Reported estimate:        %d bytes%n", diagnostics.getEstimatedRetainedBytes());
+            } else {
+                System.out.printf("Reported estimate:        %d bytes (%.0f %% of measured)%n",
+                                  diagnostics.getEstimatedRetainedBytes(),
+                                  100.0 * diagnostics.getEstimatedRetainedBytes() / retained);
+            }
+        }
+        Reference.reachabilityFence(jsonb);
+        Reference.reachabilityFence(samples);
+        jsonb.close();
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(50);
+            long current = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            if (current >= used) {
+                return current;
+            }
+            used = current;
+        }
+        return used;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+
+package ee.jakarta.json.bind.benchmarks.model;
+
+import jakarta.json.bind.annotation.JsonbNumberFormat;
+
+/**
+ * Synthetic quote formatted by the {@code 0.###} pattern with optional fraction digits, used for the number
+ * format benchmarks.
+ */
+@JsonbNumberFormat(value = "0.###", locale = "en")
+public class OptionalDigitsPatternQuote implements Quote {
+
+    public double bid;
+    public double ask;
+    public double last;
+    public double change;
+
+    @Override
+    public void setValues(double bid, double ask, double last, double change) {
+        this.bid = bid;
+        this.ask = ask;
+        this.last = last;
+        this.change = change;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks.model;
+
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Deterministic generator of the large synthetic payloads.
+ */
+public final class SyntheticPayloads {
+
+    /**
+     * Runtime type of {@link #items(int)}.
+     */
+    public static final Type ITEM_LIST = new ArrayList<SyntheticItem>() { }.getClass().getGenericSuperclass();
+
+    /**
+     * Runtime type of {@link #readings(int)}.
+     */
+    public static final Type READING_LIST = new ArrayList<SyntheticReading>() { }.getClass().getGenericSuperclass();
+
+    /**
+     * Runtime type of {@link #events(int)}.
+     */
+    public static final Type EVENT_LIST = new ArrayList<TimestampEvent>() { }.getClass().getGenericSuperclass();
+
+    private static final long SEED = 42;
+
+    private SyntheticPayloads() {
+    }
+
+    /**
+     * Generates list of beans.
+     *
+     * @param size number of elements
+     * @return generated list
+     */
+    public static List<SyntheticItem> items(int size) {
+        Random random = new Random(SEED);
+        List<SyntheticItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SyntheticItem item = new SyntheticItem();
+            item.setId(i);
+            item.setName("item-" + random.nextInt(size));
+            item.setPrice(random.nextInt(100_000) / 100.0);
+            item.setQuantity(random.nextInt(1000));
+            item.setActive(random.nextBoolean());
+            item.setCreated(Instant.ofEpochSecond(1_700_000_000L + random.nextInt(10_000_000)));
+            item.setTags(List.of("tag" + random.nextInt(10), "tag" + random.nextInt(10)));
+            Map<String, String> attributes = new LinkedHashMap<>();
+            attributes.put("color", "c" + random.nextInt(16));
+            attributes.put("size", "s" + random.nextInt(5));
+            item.setAttributes(attributes);
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * Generates list of records.
+     *
+     * @param size number of elements
+     * @return generated list
+     */
+    public static List<SyntheticReading> readings(int size) {
+        Random random = new Random(SEED);
+        List<SyntheticReading> readings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            readings.add(new SyntheticReading(1_700_000_000_000L + i,
+                                              "sensor-" + random.nextInt(64),
+                                              random.nextGaussian(),
+                                              random.nextInt(100),
+                                              random.nextBoolean()));
+        }
+        return readings;
+    }
+
+    /**
+     * Generates list of events with timestamps of nanosecond precision.
+     *
+     * @param size number of elements
+     * @return generated list
+     */
+    public static List<TimestampEvent> events(int size) {
+        Random random = new Random(SEED);
+        ZoneId zone = ZoneId.of("Europe/Prague");
+        List<TimestampEvent> events = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Instant occurred = Instant.ofEpochSecond(1_700_000_000L + random.nextInt(10_000_000),
+                                                     random.nextInt(1_000_000_000));
+            TimestampEvent event = new TimestampEvent();
+            event.id = i;
+            event.occurred = occurred;
+            event.received = occurred.plusMillis(random.nextInt(1000)).atOffset(ZoneOffset.UTC);
+            event.scheduled = occurred.plusSeconds(random.nextInt(86_400)).atZone(zone);
+            event.created = new Date(occurred.toEpochMilli());
+            events.add(event);
+        }
+        return events;
+    }
+
+    /**
+     * Generates primitive array.
+     *
+     * @param size number of elements
+     * @return generated array
+     */
+    public static double[] doubles(int size) {
+        return new Random(SEED).doubles(size).toArray();
+    }
+}
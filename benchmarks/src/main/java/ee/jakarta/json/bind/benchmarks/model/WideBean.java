@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks.model;
+
+/**
+ * Synthetic bean with 50 properties named with multiple words, used to measure property name
+ * matching and naming strategies. Properties are public fields to keep the class short.
+ */
+public class WideBean {
+
+    public long orderId;
+    public String orderCode;
+    public int orderCount;
+    public boolean orderFlag;
+    public String orderRegion;
+    public String customerName;
+    public double customerAmount;
+    public String customerStatus;
+    public long customerDate;
+    public String customerNote;
+    public long accountId;
+    public String accountCode;
+    public int accountCount;
+    public boolean accountFlag;
+    public String accountRegion;
+    public String shippingName;
+    public double shippingAmount;
+    public String shippingStatus;
+    public long shippingDate;
+    public String shippingNote;
+    public long billingId;
+    public String billingCode;
+    public int billingCount;
+    public boolean billingFlag;
+    public String billingRegion;
+    public String paymentName;
+    public double paymentAmount;
+    public String paymentStatus;
+    public long paymentDate;
+    public String paymentNote;
+    public long invoiceId;
+    public String invoiceCode;
+    public int invoiceCount;
+    public boolean invoiceFlag;
+    public String invoiceRegion;
+    public String productName;
+    public double productAmount;
+    public String productStatus;
+    public long productDate;
+    public String productNote;
+    public long warehouseId;
+    public String warehouseCode;
+    public int warehouseCount;
+    public boolean warehouseFlag;
+    public String warehouseRegion;
+    public String deliveryName;
+    public double deliveryAmount;
+    public String deliveryStatus;
+    public long deliveryDate;
+    public String deliveryNote;
+
+    /**
+     * Creates bean with all the properties set.
+     *
+     * @param seed value the property values are derived from
+     * @return new bean
+     */
+    public static WideBean sample(int seed) {
+        WideBean bean = new WideBean();
+        bean.orderId = seed * 1_000_003L;
+        bean.orderCode = "orderCode-" + seed;
+        bean.orderCount = seed * 7;
+        bean.orderFlag = seed % 2 == 0;
+        bean.orderRegion = "orderRegion-" + seed;
+        bean.customerName = "customerName-" + seed;
+        bean.customerAmount = seed * 1.25;
+        bean.customerStatus = "customerStatus-" + seed;
+        bean.customerDate = seed * 1_000_003L;
+        bean.customerNote = "customerNote-" + seed;
+        bean.accountId = seed * 1_000_003L;
+        bean.accountCode = "accountCode-" + seed;
+        bean.accountCount = seed * 7;
+        bean.accountFlag = seed % 2 == 0;
+        bean.accountRegion = "accountRegion-" + seed;
+        bean.shippingName = "shippingName-" + seed;
+        bean.shippingAmount = seed * 1.25;
+        bean.shippingStatus = "shippingStatus-" + seed;
+        bean.shippingDate = seed * 1_000_003L;
+        bean.shippingNote = "shippingNote-" + seed;
+        bean.billingId = seed * 1_000_003L;
+        bean.billingCode = "billingCode-" + seed;
+        bean.billingCount = seed * 7;
+        bean.billingFlag = seed % 2 == 0;
+        bean.billingRegion = "billingRegion-" + seed;
+        bean.paymentName = "paymentName-" + seed;
+        bean.paymentAmount = seed * 1.25;
+        bean.paymentStatus = "paymentStatus-" + seed;
+        bean.paymentDate = seed * 1_000_003L;
+        bean.paymentNote = "paymentNote-" + seed;
+        bean.invoiceId = seed * 1_000_003L;
+        bean.invoiceCode = "invoiceCode-" + seed;
+        bean.invoiceCount = seed * 7;
+        bean.invoiceFlag = seed % 2 == 0;
+        bean.invoiceRegion = "invoiceRegion-" + seed;
+        bean.productName = "productName-" + seed;
+        bean.productAmount = seed * 1.25;
+        bean.productStatus = "productStatus-" + seed;
+        bean.productDate = seed * 1_000_003L;
+        bean.productNote = "productNote-" + seed;
+        bean.warehouseId = seed * 1_000_003L;
+        bean.warehouseCode = "warehouseCode-" + seed;
+        bean.warehouseCount = seed * 7;
+        bean.warehouseFlag = seed % 2 == 0;
+        bean.warehouseRegion = "warehouseRegion-" + seed;
+        bean.deliveryName = "deliveryName-" + seed;
+        bean.deliveryAmount = seed * 1.25;
+        bean.deliveryStatus = "deliveryStatus-" + seed;
+        bean.deliveryDate = seed * 1_000_003L;
+        bean.deliveryNote = "deliveryNote-" + seed;
+        return bean;
+    }
+}
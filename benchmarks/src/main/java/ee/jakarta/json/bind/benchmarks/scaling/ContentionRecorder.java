@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks.scaling;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Records lock contention and virtual thread pinning caused by the provider.
+ * <br>
+ * Records {@code jdk.JavaMonitorEnter}, {@code jdk.ThreadPark} and {@code jdk.VirtualThreadPinned}
+ * Flight Recorder events. Only the events with a frame outside of the JDK and of the benchmarks
+ * on the stack are counted, so the waiting of the harness itself is ignored.
+ */
+final class ContentionRecorder implements AutoCloseable {
+
+    static final String MONITOR_ENTER = "jdk.JavaMonitorEnter";
+    static final String THREAD_PARK = "jdk.ThreadPark";
+    static final String VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+
+    private static final List<String> IGNORED_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.",
+                                                                 "ee.jakarta.json.bind.benchmarks.");
+
+    private final Recording recording = new Recording();
+
+    ContentionRecorder(Duration threshold) {
+        for (String event : List.of(MONITOR_ENTER, THREAD_PARK, VIRTUAL_THREAD_PINNED)) {
+            recording.enable(event).withThreshold(threshold).withStackTrace();
+        }
+        recording.start();
+    }
+
+    /**
+     * Stops the recording and returns the counted events.
+     *
+     * @return contention of the recorded period
+     * @throws IOException if the recording could not be read
+     */
+    Contention stop() throws IOException {
+        recording.stop();
+        Path file = Files.createTempFile("jsonb-contention", ".jfr");
+        try {
+            recording.dump(file);
+            Contention contention = new Contention();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                String site = site(event);
+                if (site != null) {
+                    contention.add(event.getEventType().getName(), site, event.getDuration());
+                }
+            }
+            return contention;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Override
+    public void close() {
+        recording.close();
+    }
+
+    private static String site(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return null;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (IGNORED_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Counted events of one recording.
+     */
+    static final class Contention {
+
+        private final Map<String, Long> counts = new HashMap<>();
+        private final Map<String, Duration> durations = new HashMap<>();
+        private final Map<String, Long> sites = new HashMap<>();
+
+        private void add(String event, String site, Duration duration) {
+            counts.merge(event, 1L, Long::sum);
+            durations.merge(event, duration, Duration::plus);
+            sites.merge(site, 1L, Long::sum);
+        }
+
+        long count(String event) {
+            return counts.getOrDefault(event, 0L);
+        }
+
+        Duration duration(String event) {
+            return durations.getOrDefault(event, Duration.ZERO);
+        }
+
+        /**
+         * Provider methods with the most of the events.
+         *
+         * @param limit maximal number of the returned sites
+         * @return formatted sites
+         */
+        List<String> topSites(int limit) {
+            return new ArrayList<>(sites.entrySet()).stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                    .limit(limit)
+                    .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks.scaling;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+
+import ee.jakarta.json.bind.benchmarks.model.SyntheticItem;
+import ee.jakarta.json.bind.benchmarks.model.SyntheticPayloads;
+import ee.jakarta.json.bind.benchmarks.startup.DtoGenerator;
+
+/**
+ * Throughput scaling and contention of a single {@link Jsonb} instance shared by many threads.
+ * <br>
+ * Every step creates a new {@link Jsonb} instance and runs round trips on it from the given number
+ * of threads, while {@link ContentionRecorder} records monitor contention, parking and virtual
+ * thread pinning inside the provider. Steps are run for
+ * <ul>
+ *     <li>{@code warm} types - a single class already bound before the measurement,
+ *     the steps run for the configured duration</li>
+ *     <li>{@code cold} types - generated classes loaded by a new class loader, each of them bound once,
+ *     the steps run until all of the classes are bound</li>
+ * </ul>
+ * and for platform threads and virtual threads. Virtual threads require JDK 21 or newer.
+ * <br>
+ * Scaling of a platform thread step is its throughput relative to the single thread step, which is always
+ * measured first, even if {@code --threads} does not start with {@code 1}. Scaling of the virtual thread
+ * step is its throughput relative to the best platform thread step, so a value below one shows the cost
+ * of running the provider in many virtual threads, such as carrier pinning. Scaling is reported as
+ * {@code n/a} if the baseline step completed no operation.
+ * <br>
+ * Options are passed as {@code --name=value}: {@code --threads} (default {@code 1,2,4,8,16,32,64}),
+ * {@code --virtual-threads} (default {@code 10000}), {@code --types} (default {@code warm,cold}),
+ * {@code --duration} in seconds (default {@code 5}), {@code --cold-classes} (default {@code 2000}),
+ * {@code --threshold} of the recorded events in milliseconds (default {@code 1}) and {@code --provider},
+ * the class name of the {@link jakarta.json.bind.spi.JsonbProvider} under test (default the compatible
+ * implementation).
+ */
+public final class ScalingStress {
+
+    private final Duration duration;
+    private final Duration threshold;
+    private final int coldClasses;
+    private final String provider;
+    private Path coldJar;
+
+    private ScalingStress(Duration duration, Duration threshold, int coldClasses, String provider) {
+        this.duration = duration;
+        this.threshold = threshold;
+        this.coldClasses = coldClasses;
+        this.provider = provider;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("threads", "1,2,4,8,16,32,64");
+        options.put("virtual-threads", "10000");
+        options.put("types", "warm,cold");
+        options.put("duration", "5");
+        options.put("cold-classes", "2000");
+        options.put("threshold", "1");
+        options.put("provider", "org.eclipse.yasson.JsonBindingProvider");
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unsupported argument " + arg + ", expected --name=value");
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        ScalingStress stress = new ScalingStress(Duration.ofSeconds(Long.parseLong(options.get("duration"))),
+                                                 Duration.ofMillis(Long.parseLong(options.get("threshold"))),
+                                                 Integer.parseInt(options.get("cold-classes")),
+                                                 options.get("provider"));
+        int[] threads = IntStream.concat(IntStream.of(1),
+                                         Arrays.stream(options.get("threads").split(","))
+                                                 .mapToInt(Integer::parseInt)
+                                                 .filter(count -> count != 1))
+                .toArray();
+        int virtualThreads = Integer.parseInt(options.get("virtual-threads"));
+
+        System.out.printf("%-5s %-8s %7s %12s %8s %18s %18s %18s%n", "types", "kind", "threads", "ops/s", "scaling",
+                          "monitor-enter n/ms", "thread-park n/ms", "vt-pinned n/ms");
+        try {
+            for (String types : options.get("types").split(",")) {
+                double single = 0;
+                double best = 0;
+                for (int count : threads) {
+                    Result result = stress.step(types, count, false);
+                    if (count == 1) {
+                        single = result.throughput;
+                    }
+                    best = Math.max(best, result.throughput);
+                    stress.print(types, "platform", count, result, scaling(result.throughput, single));
+                }
+                if (virtualThreads > 0) {
+                    Result result = stress.step(types, virtualThreads, true);
+                    if (result == null) {
+                        System.out.printf("%-5s %-8s %7d skipped, virtual threads require JDK 21 or newer%n",
+                                          types, "virtual", virtualThreads);
+                    } else {
+                        stress.print(types, "virtual", virtualThreads, result, scaling(result.throughput, best));
+                    }
+                }
+            }
+        } finally {
+            DtoGenerator.delete(stress.coldJar);
+        }
+    }
+
+    private Result step(String types, int threads, boolean virtual) throws Exception {
+        ExecutorService executor = virtual ? virtualThreadExecutor() : Executors.newFixedThreadPool(threads);
+        if (executor == null) {
+            return null;
+        }
+        URLClassLoader loader = "cold".equals(types) ? coldClassLoader() : null;
+        try (Jsonb jsonb = JsonbBuilder.newBuilder(provider).build()) {
+            Workload workload = loader != null ? coldWorkload(jsonb, loader) : warmWorkload(jsonb);
+            LongAdder operations = new LongAdder();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>(threads);
+            try (ContentionRecorder recorder = new ContentionRecorder(threshold)) {
+                long begin = System.nanoTime();
+                long deadline = begin + duration.toNanos();
+                for (int i = 0; i < threads; i++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        while (System.nanoTime() < deadline && workload.run()) {
+                            operations.increment();
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+                long elapsed = System.nanoTime() - begin;
+                return new Result(operations.sum() * 1e9 / elapsed, recorder.stop());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (loader != null) {
+                loader.close();
+            }
+        }
+    }
+
+    private void print(String types, String kind, int threads, Result result, double scaling) {
+        ContentionRecorder.Contention contention = result.contention;
+        System.out.printf("%-5s %-8s %7d %12.0f %8s %18s %18s %18s%n", types, kind, threads, result.throughput,
+                          Double.isNaN(scaling) ? "n/a" : String.format("%.2f", scaling),
+                          format(contention, ContentionRecorder.MONITOR_ENTER),
+                          format(contention, ContentionRecorder.THREAD_PARK),
+                          format(contention, ContentionRecorder.VIRTUAL_THREAD_PINNED));
+        contention.topSites(3).forEach(site -> System.out.println("      at " + site));
+    }
+
+    private static double scaling(double throughput, double baseline) {
+        return baseline > 0 ? throughput / baseline : Double.NaN;
+    }
+
+    private static String format(ContentionRecorder.Contention contention, String event) {
+        return contention.count(event) + "/" + contention.duration(event).toMillis();
+    }
+
+    private static Workload warmWorkload(Jsonb jsonb) {
+        SyntheticItem item = SyntheticPayloads.items(1).get(0);
+        Workload workload = () -> jsonb.fromJson(jsonb.toJson(item), SyntheticItem.class) != null;
+        for (int i = 0; i < 10_000; i++) {
+            workload.run();
+        }
+        return workload;
+    }
+
+    /**
+     * Creates a new class loader of the generated classes, so that they are bound for the first time.
+     */
+    private URLClassLoader coldClassLoader() throws IOException {
+        if (coldJar == null) {
+            coldJar = DtoGenerator.generate(coldClasses, Files.createTempFile("jsonb-scaling", ".jar"));
+        }
+        return new URLClassLoader(new URL[] {coldJar.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private Workload coldWorkload(Jsonb jsonb, ClassLoader loader) throws Exception {
+        Class<?>[] types = new Class<?>[coldClasses];
+        Object[] samples = new Object[coldClasses];
+        String[] documents = new String[coldClasses];
+        for (int i = 0; i < coldClasses; i++) {
+            types[i] = Class.forName(DtoGenerator.className(i), true, loader);
+            samples[i] = types[i].getMethod("sample").invoke(null);
+            documents[i] = (String) types[i].getField("JSON").get(null);
+        }
+        AtomicInteger next = new AtomicInteger();
+        return () -> {
+            int index = next.getAndIncrement();
+            if (index >= coldClasses) {
+                return false;
+            }
+            jsonb.toJson(samples[index]);
+            jsonb.fromJson(documents[index], types[index]);
+            return true;
+        };
+    }
+
+    private static ExecutorService virtualThreadExecutor() throws ReflectiveOperationException {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Single operation of a step.
+     */
+    @FunctionalInterface
+    private interface Workload {
+
+        /**
+         * Runs the operation.
+         *
+         * @return {@code false} if there is nothing more to run
+         */
+        boolean run();
+    }
+
+    private static final class Result {
+
+        private final double throughput;
+        private final ContentionRecorder.Contention contention;
+
+        private Result(double throughput, ContentionRecorder.Contention contention) {
+            this.throughput = throughput;
+            this.contention = contention;
+        }
+    }
+}
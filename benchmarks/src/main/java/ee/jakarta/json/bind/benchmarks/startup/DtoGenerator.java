@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks.startup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates, compiles and packages simple DTO classes into a jar.
+ * <br>
+ * Every generated class {@code generated.DtoN} has properties of several basic types
+ * with accessors, a static {@code sample()} factory method and a static {@code JSON}
+ * constant with the JSON document corresponding to the sample. Classes are packaged into a jar
+ * so that they can be stored in the class data sharing archives.
+ */
+public final class DtoGenerator {
+
+    /**
+     * Package of the generated classes.
+     */
+    public static final String PACKAGE = "generated";
+
+    private DtoGenerator() {
+    }
+
+    /**
+     * Name of the N-th generated class.
+     *
+     * @param index class index
+     * @return fully qualified class name
+     */
+    public static String className(int index) {
+        return PACKAGE + ".Dto" + index;
+    }
+
+    /**
+     * Generates the given number of classes into a jar.
+     *
+     * @param count number of classes
+     * @param jar jar to create
+     * @return created jar
+     */
+    public static Path generate(int count, Path jar) {
+        Path sources = null;
+        Path classes = null;
+        try {
+            sources = Files.createTempDirectory("jsonb-dto-src");
+            classes = Files.createTempDirectory("jsonb-dto-classes");
+            List<String> files = new ArrayList<>(count + 4);
+            files.add("-d");
+            files.add(classes.toString());
+            files.add("-nowarn");
+            Path packageDir = Files.createDirectories(sources.resolve(PACKAGE));
+            for (int i = 0; i < count; i++) {
+                Path source = packageDir.resolve("Dto" + i + ".java");
+                Files.writeString(source, source(i));
+                files.add(source.toString());
+            }
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            if (compiler == null) {
+                throw new IllegalStateException("Generating classes requires a JDK");
+            }
+            if (compiler.run(null, null, System.err, files.toArray(new String[0])) != 0) {
+                throw new IllegalStateException("Compilation of the generated classes failed");
+            }
+            try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+                    Stream<Path> compiled = Files.walk(classes)) {
+                for (Path file : (Iterable<Path>) compiled.filter(Files::isRegularFile)::iterator) {
+                    output.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+                    Files.copy(file, output);
+                    output.closeEntry();
+                }
+            }
+            return jar;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            delete(sources);
+            delete(classes);
+        }
+    }
+
+    /**
+     * Deletes a file or a directory with all its content. Does nothing if the path is {@code null}
+     * or does not exist.
+     *
+     * @param path file or directory to delete
+     */
+    public static void delete(Path path) {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String source(int index) {
+        String name = "Dto" + index;
+        String json = "{\"active\":" + (index % 2 == 0)
+                + ",\"amount\":" + index + ".5"
+                + ",\"created\":\"2024-01-" + String.format("%02d", index % 28 + 1) + "\""
+                + ",\"id\":" + index
+                + ",\"name\":\"dto" + index + "\""
+                + ",\"tags\":[\"a" + index + "\",\"b" + index + "\"]}";
+        StringBuilder source = new StringBuilder();
+        source.append("package ").append(PACKAGE).append(";\n\n")
+                .append("public class ").append(name).append(" {\n")
+                .append("    public static final String JSON = \"").append(json.replace("\"", "\\\"")).append("\";\n")
+                .append("    private int id;\n")
+                .append("    private String name;\n")
+                .append("    private double amount;\n")
+                .append("    private boolean active;\n")
+                .append("    private java.time.LocalDate created;\n")
+                .append("    private java.util.List<String> tags;\n")
+                .append("    public static ").append(name).append(" sample() {\n")
+                .append("        ").append(name).append(" dto = new ").append(name).append("();\n")
+                .append("        dto.id = ").append(index).append(";\n")
+                .append("        dto.name = \"dto").append(index).append("\";\n")
+                .append("        dto.amount = ").append(index).append(".5;\n")
+                .append("        dto.active = ").append(index % 2 == 0).append(";\n")
+                .append("        dto.created = java.time.LocalDate.of(2024, 1, ").append(index % 28 + 1).append(");\n")
+                .append("        dto.tags = java.util.List.of(\"a").append(index).append("\", \"b").append(index).append("\");\n")
+                .append("        return dto;\n")
+                .append("    }\n");
+        accessors(source, "int", "Id", "id");
+        accessors(source, "String", "Name", "name");
+        accessors(source, "double", "Amount", "amount");
+        accessors(source, "boolean", "Active", "active");
+        accessors(source, "java.time.LocalDate", "Created", "created");
+        accessors(source, "java.util.List<String>", "Tags", "tags");
+        return source.append("}\n").toString();
+    }
+
+    private static void accessors(StringBuilder source, String type, String property, String field) {
+        source.append("    public ").append(type).append(type.equals("boolean") ? " is" : " get").append(property)
+                .append("() {\n        return ").append(field).append(";\n    }\n")
+                .append("    public void set").append(property).append("(").append(type).append(" ").append(field)
+                .append(") {\n        this.").append(field).append(" = ").append(field).append(";\n    }\n");
+    }
+}
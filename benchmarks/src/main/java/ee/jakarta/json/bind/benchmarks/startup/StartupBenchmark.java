@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks.startup;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Startup and first call latency of the provider measured in fresh JVMs.
+ * <br>
+ * For every JVM variant, number of generated classes and preloading mode, {@link StartupProbe}
+ * is executed in the configured number of forked JVMs and the median of every measured value
+ * is reported. Supported JVM variants are:
+ * <ul>
+ *     <li>{@code default} - JVM with the default class data sharing archive</li>
+ *     <li>{@code xshare-off} - class data sharing disabled with {@code -Xshare:off}</li>
+ *     <li>{@code appcds} - dynamic application class data sharing archive created by a training run</li>
+ *     <li>{@code aot} - ahead-of-time cache created by a training run, requires JDK 24 or newer</li>
+ * </ul>
+ * Options are passed as {@code --name=value}: {@code --sizes} (default {@code 10,100,1000}),
+ * {@code --forks} (default {@code 5}), {@code --variants} (default all the supported variants),
+ * {@code --java} (default the java executable of the running JVM) and {@code --provider}, the class name
+ * of the {@link jakarta.json.bind.spi.JsonbProvider} under test (default the compatible implementation).
+ * Generated classes and archives are stored in a temporary directory deleted at the end of the run.
+ */
+public final class StartupBenchmark {
+
+    private static final List<String> METRICS = List.of("jvm", "load", "create", "preload", "toJson", "fromJson", "total");
+
+    private final Path java;
+    private final Path workDirectory;
+    private final int forks;
+    private final String provider;
+
+    private StartupBenchmark(Path java, Path workDirectory, int forks, String provider) {
+        this.java = java;
+        this.workDirectory = workDirectory;
+        this.forks = forks;
+        this.provider = provider;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("sizes", "10,100,1000");
+        options.put("forks", "5");
+        options.put("variants", "default,xshare-off,appcds,aot");
+        options.put("java", Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        options.put("provider", "org.eclipse.yasson.JsonBindingProvider");
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unsupported argument " + arg + ", expected --name=value");
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        int[] sizes = Arrays.stream(options.get("sizes").split(",")).mapToInt(Integer::parseInt).toArray();
+        StartupBenchmark benchmark = new StartupBenchmark(Paths.get(options.get("java")),
+                                                          Files.createTempDirectory("jsonb-startup"),
+                                                          Integer.parseInt(options.get("forks")),
+                                                          options.get("provider"));
+        try {
+            System.out.printf("%-12s %8s %8s", "variant", "classes", "preload");
+            METRICS.forEach(metric -> System.out.printf(" %10s", metric));
+            System.out.println();
+            for (String variant : options.get("variants").split(",")) {
+                for (int size : sizes) {
+                    benchmark.run(variant, size);
+                }
+            }
+            System.out.println("Median milliseconds of " + benchmark.forks + " forks");
+        } finally {
+            DtoGenerator.delete(benchmark.workDirectory);
+        }
+    }
+
+    private void run(String variant, int size) throws IOException, InterruptedException {
+        Path dtos = workDirectory.resolve("dtos-" + size + ".jar");
+        if (!Files.exists(dtos)) {
+            DtoGenerator.generate(size, dtos);
+        }
+        String classPath = System.getProperty("java.class.path") + File.pathSeparator + dtos;
+        List<String> jvmOptions = prepare(variant, size, classPath);
+        if (jvmOptions == null) {
+            System.out.printf("%-12s %8d skipped, not supported by %s%n", variant, size, java);
+            return;
+        }
+        for (boolean preload : new boolean[] {false, true}) {
+            Map<String, List<Double>> results = new LinkedHashMap<>();
+            for (int fork = 0; fork < forks; fork++) {
+                probe(jvmOptions, classPath, size, preload)
+                        .forEach((metric, value) -> results.computeIfAbsent(metric, key -> new ArrayList<>()).add(value));
+            }
+            System.out.printf("%-12s %8d %8s", variant, size, preload);
+            METRICS.forEach(metric -> System.out.printf(" %10.1f", median(results.get(metric))));
+            System.out.println();
+        }
+    }
+
+    /**
+     * Creates the archives needed by the variant and returns JVM options to use them.
+     *
+     * @return JVM options or {@code null} if the variant is not supported
+     */
+    private List<String> prepare(String variant, int size, String classPath) throws IOException, InterruptedException {
+        switch (variant) {
+        case "default":
+            return List.of();
+        case "xshare-off":
+            return List.of("-Xshare:off");
+        case "appcds":
+            Path archive = workDirectory.resolve("appcds-" + size + ".jsa");
+            probe(List.of("-XX:ArchiveClassesAtExit=" + archive), classPath, size, false);
+            return List.of("-XX:SharedArchiveFile=" + archive);
+        case "aot":
+            if (javaVersion() < 24) {
+                return null;
+            }
+            Path configuration = workDirectory.resolve("aot-" + size + ".aotconf");
+            Path cache = workDirectory.resolve("aot-" + size + ".aot");
+            probe(List.of("-XX:AOTMode=record", "-XX:AOTConfiguration=" + configuration), classPath, size, false);
+            execute(List.of("-XX:AOTMode=create", "-XX:AOTConfiguration=" + configuration, "-XX:AOTCache=" + cache),
+                    classPath, List.of());
+            return List.of("-XX:AOTCache=" + cache);
+        default:
+            throw new IllegalArgumentException("Unknown variant " + variant);
+        }
+    }
+
+    private Map<String, Double> probe(List<String> jvmOptions, String classPath, int size, boolean preload)
+            throws IOException, InterruptedException {
+        List<String> output = execute(jvmOptions, classPath,
+                                      List.of(StartupProbe.class.getName(), String.valueOf(size), String.valueOf(preload),
+                                              provider));
+        String result = output.stream()
+                .filter(line -> line.startsWith(StartupProbe.RESULT_PREFIX))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Probe did not report results:\n" + String.join("\n", output)));
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (String pair : result.substring(StartupProbe.RESULT_PREFIX.length()).trim().split(" ")) {
+            values.put(pair.substring(0, pair.indexOf('=')), Double.parseDouble(pair.substring(pair.indexOf('=') + 1)));
+        }
+        return values;
+    }
+
+    private List<String> execute(List<String> jvmOptions, String classPath, List<String> arguments)
+            throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(java.toString());
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(classPath);
+        command.addAll(arguments);
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        List<String> output;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                                                                              StandardCharsets.UTF_8))) {
+            output = reader.lines().collect(Collectors.toList());
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Command " + command + " failed:\n" + String.join("\n", output));
+        }
+        return output;
+    }
+
+    private int javaVersion() throws IOException, InterruptedException {
+        String version = execute(List.of("-XshowSettings:properties"), "", List.of("-version")).stream()
+                .map(String::trim)
+                .filter(line -> line.startsWith("java.specification.version = "))
+                .findFirst()
+                .orElseThrow()
+                .substring("java.specification.version = ".length());
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+
+    private static double median(List<Double> values) {
+        double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.json.bind.benchmarks.startup;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+
+/**
+ * Measured program executed in a fresh JVM by {@link StartupBenchmark}.
+ * <br>
+ * Arguments are the number of generated classes to bind, {@code true} to preload the metadata
+ * of all the classes before the first calls are measured and the class name of the
+ * {@link jakarta.json.bind.spi.JsonbProvider} under test. Results are printed to the standard
+ * output as a single line starting with {@value #RESULT_PREFIX} followed by
+ * space separated {@code name=milliseconds} pairs.
+ */
+public final class StartupProbe {
+
+    static final String RESULT_PREFIX = "RESULT";
+
+    private StartupProbe() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int count = Integer.parseInt(args[0]);
+        boolean preload = Boolean.parseBoolean(args[1]);
+        String provider = args[2];
+        Map<String, Double> results = new LinkedHashMap<>();
+        results.put("jvm", (double) ManagementFactory.getRuntimeMXBean().getUptime());
+
+        long start = System.nanoTime();
+        Class<?>[] types = new Class<?>[count];
+        Object[] samples = new Object[count];
+        String[] documents = new String[count];
+        for (int i = 0; i < count; i++) {
+            types[i] = Class.forName(DtoGenerator.className(i));
+            samples[i] = types[i].getMethod("sample").invoke(null);
+            documents[i] = (String) types[i].getField("JSON").get(null);
+        }
+        results.put("load", millis(start));
+
+        start = System.nanoTime();
+        try (Jsonb jsonb = JsonbBuilder.newBuilder(provider).build()) {
+            results.put("create", millis(start));
+
+            start = System.nanoTime();
+            if (preload) {
+                for (int i = 0; i < count; i++) {
+                    jsonb.toJson(samples[i]);
+                    jsonb.fromJson(documents[i], types[i]);
+                }
+            }
+            results.put("preload", millis(start));
+
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                jsonb.toJson(samples[i]);
+            }
+            results.put("toJson", millis(start));
+
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                jsonb.fromJson(documents[i], types[i]);
+            }
+            results.put("fromJson", millis(start));
+        }
+        results.put("total", (double) ManagementFactory.getRuntimeMXBean().getUptime());
+
+        StringBuilder line = new StringBuilder(RESULT_PREFIX);
+        results.forEach((name, value) -> line.append(' ').append(name).append('=').append(value));
+        System.out.println(line);
+    }
+
+    private static double millis(long start) {
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+}
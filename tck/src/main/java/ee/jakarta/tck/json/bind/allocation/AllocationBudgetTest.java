@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.allocation;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+
+import ee.jakarta.tck.json.bind.allocation.model.AllocationPojo;
+import ee.jakarta.tck.json.bind.allocation.model.AllocationRecord;
+import ee.jakarta.tck.json.bind.allocation.model.DiscardingOutputStream;
+import ee.jakarta.tck.json.bind.allocation.model.PrimitiveCreator;
+import ee.jakarta.tck.json.bind.allocation.model.PrimitivePojo;
+import ee.jakarta.tck.json.bind.allocation.model.PrimitiveRecord;
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.PrimitiveContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer.PrimitiveSerializers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Steady state allocation of the serialization and deserialization of small values.
+ * <br>
+ * These tests are optional and are not executed by default. Measured allocation is reported
+ * and asserted against the budgets supplied by the provider. Deserialization of records and
+ * {@code JsonbCreator} types with primitive parameters is also compared with deserialization
+ * of the equivalent class and the excess is asserted against the allocation of boxed arguments
+ * measured on the same JVM and against its own budget.
+ *
+ * @see AllocationMeter
+ */
+@Tag(AllocationMeter.TAG)
+public class AllocationBudgetTest {
+
+    private static final Type STRING_LIST = new ArrayList<String>() { }.getClass().getGenericSuperclass();
+
+    private static final Type STRING_INTEGER_MAP = new LinkedHashMap<String, Integer>() { }.getClass().getGenericSuperclass();
+
+    /**
+     * Primitive values outside of the ranges cached by the boxed types.
+     */
+    private static final String PRIMITIVE_JSON = "{\"b\":-100,\"s\":1000,\"i\":100000,\"l\":1700000000000,"
+            + "\"f\":1.5,\"d\":2.5,\"z\":true,\"c\":\"\u00e9\"}";
+
+    private static final Jsonb JSONB = JsonbBuilder.create();
+
+    /**
+     * Publishes the boxed arguments, so that their allocation cannot be eliminated by the JIT compiler.
+     */
+    private static volatile Object[] boxedArguments;
+
+    private final OutputStream output = new DiscardingOutputStream();
+
+    @AfterAll
+    public static void closeJsonb() throws Exception {
+        JSONB.close();
+    }
+
+    /**
+     * Measure serialization of a class with primitive properties.
+     */
+    @Test
+    public void testPojoToJson() {
+        AllocationPojo pojo = new AllocationPojo(1, 1_700_000_000_000L, 1.5, true, "name");
+        AllocationMeter.check("pojo.toJson", () -> JSONB.toJson(pojo, output));
+    }
+
+    /**
+     * Measure deserialization of a class with primitive properties.
+     */
+    @Test
+    public void testPojoFromJson() {
+        ByteArrayInputStream input = input(JSONB.toJson(new AllocationPojo(1, 1_700_000_000_000L, 1.5, true, "name")));
+        AllocationMeter.check("pojo.fromJson", () -> {
+            input.reset();
+            JSONB.fromJson(input, AllocationPojo.class);
+        });
+    }
+
+    /**
+     * Measure serialization of a record with primitive components.
+     */
+    @Test
+    public void testRecordToJson() {
+        AllocationRecord record = new AllocationRecord(1, 1_700_000_000_000L, 1.5, true, "name");
+        AllocationMeter.check("record.toJson", () -> JSONB.toJson(record, output));
+    }
+
+    /**
+     * Measure deserialization of a record with primitive components.
+     */
+    @Test
+    public void testRecordFromJson() {
+        ByteArrayInputStream input = input(JSONB.toJson(new AllocationRecord(1, 1_700_000_000_000L, 1.5, true, "name")));
+        AllocationMeter.check("record.fromJson", () -> {
+            input.reset();
+            JSONB.fromJson(input, AllocationRecord.class);
+        });
+    }
+
+    /**
+     * Measure deserialization of a record with primitive components only and compare it with deserialization
+     * of the equivalent class. The excess has to be lower than the allocation of an argument array with
+     * the boxed components, which does not depend on the object layout of the JVM. It is also asserted
+     * against the {@code primitiveRecord.fromJson.excess} budget, which is expected to allow one argument
+     * collector, but neither boxing of the components nor an argument array.
+     */
+    @Test
+    public void testPrimitiveRecordFromJson() {
+        long boxed = measureBoxedArguments();
+        long pojo = measureFromJson("primitivePojo.fromJson", PrimitivePojo.class);
+        long record = measureFromJson("primitiveRecord.fromJson", PrimitiveRecord.class);
+        AllocationMeter.checkExcess("primitiveRecord.fromJson.excess", record, pojo, boxed);
+    }
+
+    /**
+     * Measure deserialization of a class instantiated by a {@code JsonbCreator} factory method with
+     * primitive parameters only and compare it with deserialization of the equivalent class. The excess
+     * has to be lower than the allocation of an argument array with the boxed parameters and it is also
+     * asserted against the {@code primitiveCreator.fromJson.excess} budget.
+     */
+    @Test
+    public void testPrimitiveCreatorFromJson() {
+        long boxed = measureBoxedArguments();
+        long pojo = measureFromJson("primitivePojo.fromJson", PrimitivePojo.class);
+        long creator = measureFromJson("primitiveCreator.fromJson", PrimitiveCreator.class);
+        AllocationMeter.checkExcess("primitiveCreator.fromJson.excess", creator, pojo, boxed);
+    }
+
+    /**
+     * Measure serialization of an int array.
+     */
+    @Test
+    public void testIntArrayToJson() {
+        int[] array = IntStream.range(0, 100).toArray();
+        AllocationMeter.check("intArray.toJson", () -> JSONB.toJson(array, output));
+    }
+
+    /**
+     * Measure deserialization of an int array.
+     */
+    @Test
+    public void testIntArrayFromJson() {
+        ByteArrayInputStream input = input(JSONB.toJson(IntStream.range(0, 100).toArray()));
+        AllocationMeter.check("intArray.fromJson", () -> {
+            input.reset();
+            JSONB.fromJson(input, int[].class);
+        });
+    }
+
+    /**
+     * Measure serialization of a double array.
+     */
+    @Test
+    public void testDoubleArrayToJson() {
+        double[] array = IntStream.range(0, 100).mapToDouble(i -> i / 4.0).toArray();
+        AllocationMeter.check("doubleArray.toJson", () -> JSONB.toJson(array, output));
+    }
+
+    /**
+     * Measure deserialization of a double array.
+     */
+    @Test
+    public void testDoubleArrayFromJson() {
+        ByteArrayInputStream input = input(JSONB.toJson(IntStream.range(0, 100).mapToDouble(i -> i / 4.0).toArray()));
+        AllocationMeter.check("doubleArray.fromJson", () -> {
+            input.reset();
+            JSONB.fromJson(input, double[].class);
+        });
+    }
+
+    /**
+     * Measure serialization of a list of strings.
+     */
+    @Test
+    public void testListToJson() {
+        List<String> list = strings();
+        AllocationMeter.check("list.toJson", () -> JSONB.toJson(list, STRING_LIST, output));
+    }
+
+    /**
+     * Measure deserialization of a list of strings.
+     */
+    @Test
+    public void testListFromJson() {
+        ByteArrayInputStream input = input(JSONB.toJson(strings()));
+        AllocationMeter.check("list.fromJson", () -> {
+            input.reset();
+            JSONB.fromJson(input, STRING_LIST);
+        });
+    }
+
+    /**
+     * Measure serialization of a map of integers.
+     */
+    @Test
+    public void testMapToJson() {
+        Map<String, Integer> map = integers();
+        AllocationMeter.check("map.toJson", () -> JSONB.toJson(map, STRING_INTEGER_MAP, output));
+    }
+
+    /**
+     * Measure deserialization of a map of integers.
+     */
+    @Test
+    public void testMapFromJson() {
+        ByteArrayInputStream input = input(JSONB.toJson(integers()));
+        AllocationMeter.check("map.fromJson", () -> {
+            input.reset();
+            JSONB.fromJson(input, STRING_INTEGER_MAP);
+        });
+    }
+
+    /**
+     * Measure serialization of primitive properties with primitive specialized serializers.
+     */
+    @Test
+    public void testPrimitiveSerializersToJson() throws Exception {
+        PrimitiveContainer container = primitiveContainer();
+        try (Jsonb jsonb = primitiveSerializersJsonb()) {
+            AllocationMeter.check("primitiveSerializers.toJson", () -> jsonb.toJson(container, output));
+        }
+    }
+
+    /**
+     * Measure deserialization of primitive properties with primitive specialized deserializers.
+     */
+    @Test
+    public void testPrimitiveSerializersFromJson() throws Exception {
+        try (Jsonb jsonb = primitiveSerializersJsonb()) {
+            ByteArrayInputStream input = input(jsonb.toJson(primitiveContainer()));
+            AllocationMeter.check("primitiveSerializers.fromJson", () -> {
+                input.reset();
+                jsonb.fromJson(input, PrimitiveContainer.class);
+            });
+        }
+    }
+
+    private static Jsonb primitiveSerializersJsonb() {
+        return JsonbBuilder.create(new JsonbConfig()
+                .withSerializers(new PrimitiveSerializers.IntSerializer(), new PrimitiveSerializers.LongSerializer(),
+                                 new PrimitiveSerializers.DoubleSerializer(), new PrimitiveSerializers.BooleanSerializer())
+                .withDeserializers(new PrimitiveSerializers.IntDeserializer(), new PrimitiveSerializers.LongDeserializer(),
+                                   new PrimitiveSerializers.DoubleDeserializer(),
+                                   new PrimitiveSerializers.BooleanDeserializer()));
+    }
+
+    /**
+     * Values of {@link #PRIMITIVE_JSON} boxed into an argument array. The byte and boolean values are
+     * cached by their boxed types, the other values are allocated for each operation.
+     */
+    private static long measureBoxedArguments() {
+        return AllocationMeter.check("primitiveArguments.boxed", () -> boxedArguments = new Object[] {
+                (byte) -100, (short) 1000, 100000, 1_700_000_000_000L, 1.5f, 2.5, true, '\u00e9'});
+    }
+
+    private static long measureFromJson(String name, Class<?> type) {
+        ByteArrayInputStream input = input(PRIMITIVE_JSON);
+        return AllocationMeter.check(name, () -> {
+            input.reset();
+            JSONB.fromJson(input, type);
+        });
+    }
+
+    private static ByteArrayInputStream input(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PrimitiveContainer primitiveContainer() {
+        PrimitiveContainer container = new PrimitiveContainer();
+        container.setIntInstance(1);
+        container.setLongInstance(1_700_000_000_000L);
+        container.setDoubleInstance(1.5);
+        container.setBooleanInstance(true);
+        return container;
+    }
+
+    private static List<String> strings() {
+        return IntStream.range(0, 10).mapToObj(i -> "value" + i).collect(Collectors.toList());
+    }
+
+    private static Map<String, Integer> integers() {
+        return IntStream.range(0, 10).boxed()
+                .collect(Collectors.toMap(i -> "key" + i, i -> i, (a, b) -> a, LinkedHashMap::new));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.allocation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures bytes allocated per operation by the current thread.
+ * <br>
+ * Measurement is based on {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ * Operation is first executed {@value #WARMUP_ITERATIONS} times to reach the steady state,
+ * then the allocation is measured over {@value #ROUNDS} rounds of {@value #ITERATIONS} iterations
+ * and the lowest average is used, which filters out allocations of the JIT compiler
+ * and of other one-off activities.
+ * <br>
+ * Measured values are always logged at the {@code INFO} level. If a budget file is specified with the
+ * {@value #BUDGETS_PROPERTY} system property, measured values are also asserted
+ * against the budgets of the file. Budget file is a properties file where the keys are the names
+ * of the measured operations and values are the maximal number of bytes allocated per operation.
+ * Keys of compared operations are the names of the comparisons and values are the maximal number
+ * of bytes allocated per operation over the baseline. Operations without a budget are only reported,
+ * except for compared operations, which are always asserted against the ceiling measured by the test.
+ */
+public final class AllocationMeter {
+
+    /**
+     * JUnit tag of the allocation tests. Tests with this tag are not executed by default.
+     */
+    public static final String TAG = "allocation";
+
+    /**
+     * System property with the path to the allocation budget file.
+     */
+    public static final String BUDGETS_PROPERTY = "jsonb.tck.allocation.budgets";
+
+    private static final Logger LOGGER = Logger.getLogger(AllocationMeter.class.getName());
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int ITERATIONS = 5_000;
+    private static final int ROUNDS = 5;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+    private static final Properties BUDGETS = loadBudgets();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Measures bytes allocated per execution of the operation and asserts it against the budget,
+     * if there is one. Test is skipped if the JVM is not able to measure thread allocation.
+     *
+     * @param name name of the operation, key in the budget file
+     * @param operation measured operation
+     * @return bytes allocated per operation
+     */
+    public static long check(String name, Runnable operation) {
+        assumeTrue(THREAD_MX_BEAN != null, "Thread allocation measurement is not supported by this JVM");
+        long bytesPerOperation = measure(operation);
+        String budget = BUDGETS.getProperty(name);
+        LOGGER.info(name + ": " + bytesPerOperation + " bytes/op"
+                            + (budget == null ? "" : " (budget " + budget.trim() + ")"));
+        if (budget != null) {
+            assertThat("Operation " + name + " allocated more bytes than its budget.",
+                       bytesPerOperation, lessThanOrEqualTo(Long.parseLong(budget.trim())));
+        }
+        return bytesPerOperation;
+    }
+
+    /**
+     * Reports bytes allocated per operation in excess of a baseline operation, asserts that the excess is lower
+     * than the ceiling and asserts it against the budget, if there is one. Used to compare operations which are
+     * expected to allocate about the same. The ceiling is measured on the same JVM, so the assertion does not
+     * depend on its object layout, while the budget may be a tighter bound specific to the provider.
+     *
+     * @param name name of the comparison, key in the budget file
+     * @param bytesPerOperation bytes allocated per compared operation
+     * @param baselineBytesPerOperation bytes allocated per baseline operation
+     * @param ceilingBytesPerOperation bytes allocated per operation which the excess has to stay below
+     */
+    public static void checkExcess(String name, long bytesPerOperation, long baselineBytesPerOperation,
+                                   long ceilingBytesPerOperation) {
+        long excess = bytesPerOperation - baselineBytesPerOperation;
+        String budget = BUDGETS.getProperty(name);
+        LOGGER.info(name + ": " + excess + " bytes/op over baseline (ceiling " + ceilingBytesPerOperation
+                            + (budget == null ? "" : ", budget " + budget.trim()) + ")");
+        assertThat("Comparison " + name + " exceeded the baseline by at least as many bytes as its ceiling.",
+                   excess, lessThan(ceilingBytesPerOperation));
+        if (budget != null) {
+            assertThat("Comparison " + name + " exceeded the baseline by more bytes than its budget.",
+                       excess, lessThanOrEqualTo(Long.parseLong(budget.trim())));
+        }
+    }
+
+    private static long measure(Runnable operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.run();
+        }
+        long lowest = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < ITERATIONS; i++) {
+                operation.run();
+            }
+            long allocated = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - start;
+            lowest = Math.min(lowest, allocated / ITERATIONS);
+        }
+        return lowest;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        return bean;
+    }
+
+    private static Properties loadBudgets() {
+        Properties budgets = new Properties();
+        String file = System.getProperty(BUDGETS_PROPERTY);
+        if (file != null && !file.isBlank()) {
+            Path path = Paths.get(file);
+            try (InputStream stream = Files.newInputStream(path)) {
+                budgets.load(stream);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to load allocation budgets from " + path, e);
+            }
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.allocation.model;
+
+import jakarta.json.bind.annotation.JsonbCreator;
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public final class PrimitiveCreator {
+
+    private final byte b;
+
+    private final short s;
+
+    private final int i;
+
+    private final long l;
+
+    private final float f;
+
+    private final double d;
+
+    private final boolean z;
+
+    private final char c;
+
+    private PrimitiveCreator(byte b, short s, int i, long l, float f, double d, boolean z, char c) {
+        this.b = b;
+        this.s = s;
+        this.i = i;
+        this.l = l;
+        this.f = f;
+        this.d = d;
+        this.z = z;
+        this.c = c;
+    }
+
+    @JsonbCreator
+    public static PrimitiveCreator of(@JsonbProperty("b") byte b,
+                                       @JsonbProperty("s") short s,
+                                       @JsonbProperty("i") int i,
+                                       @JsonbProperty("l") long l,
+                                       @JsonbProperty("f") float f,
+                                       @JsonbProperty("d") double d,
+                                       @JsonbProperty("z") boolean z,
+                                       @JsonbProperty("c") char c) {
+        return new PrimitiveCreator(b, s, i, l, f, d, z, c);
+    }
+
+    public byte getB() {
+        return b;
+    }
+
+    public short getS() {
+        return s;
+    }
+
+    public int getI() {
+        return i;
+    }
+
+    public long getL() {
+        return l;
+    }
+
+    public float getF() {
+        return f;
+    }
+
+    public double getD() {
+        return d;
+    }
+
+    public boolean isZ() {
+        return z;
+    }
+
+    public char getC() {
+        return c;
+    }
+}
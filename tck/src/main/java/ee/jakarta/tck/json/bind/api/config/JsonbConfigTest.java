@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,11 +27,15 @@ import java.util.Optional;
 import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.adapter.JsonbAdapter;
 import jakarta.json.bind.config.BinaryDataStrategy;
+import jakarta.json.bind.config.BufferAllocator;
 import jakarta.json.bind.config.PropertyNamingStrategy;
 import jakarta.json.bind.config.PropertyOrderStrategy;
+import jakarta.json.bind.metrics.JsonbMetricsListener;
 import jakarta.json.bind.serializer.JsonbDeserializer;
 import jakarta.json.bind.serializer.JsonbSerializer;
 
+import ee.jakarta.tck.json.bind.api.model.ParserCodecProvider;
+import ee.jakarta.tck.json.bind.api.model.RecordingMetricsListener;
 import ee.jakarta.tck.json.bind.api.model.SimpleContainerDeserializer;
 import ee.jakarta.tck.json.bind.api.model.SimpleContainerSerializer;
 import ee.jakarta.tck.json.bind.api.model.SimpleIntegerAdapter;
@@ -476,4 +480,120 @@ public class JsonbConfigTest {
         assertTrue((boolean) property.get(), validationMessage);
     }
 
+    /*
+     * @testName: testWithMetricsListener
+     *
+     * @test_Strategy: Assert that JsonbConfig.withMetricsListener configures
+     * custom metrics listener
+     */
+    @Test
+    public void testWithMetricsListener() {
+        JsonbMetricsListener listener = new RecordingMetricsListener();
+        JsonbConfig jsonbConfig = new JsonbConfig().withMetricsListener(listener);
+
+        Optional<Object> property = jsonbConfig.getProperty(JsonbConfig.METRICS_LISTENER);
+        String validationMessage = "Failed to configure metrics listener using JsonbConfig.withMetricsListener method.";
+        assertTrue(property.isPresent(), validationMessage);
+        assertThat(validationMessage, property.get(), is(listener));
+    }
+
+    /*
+     * @testName: testWithStatistics
+     *
+     * @test_Strategy: Assert that JsonbConfig.withStatistics configures
+     * statistics collection
+     */
+    @Test
+    public void testWithStatistics() {
+        JsonbConfig jsonbConfig = new JsonbConfig().withStatistics(true);
+
+        Optional<Object> property = jsonbConfig.getProperty(JsonbConfig.STATISTICS);
+        String validationMessage = "Failed to configure statistics collection using JsonbConfig.withStatistics method.";
+        assertTrue(property.isPresent(), validationMessage);
+        assertTrue((boolean) property.get(), validationMessage);
+    }
+
+    /*
+     * @testName: testWithBufferAllocator
+     *
+     * @test_Strategy: Assert that JsonbConfig.withBufferAllocator configures
+     * allocator of the deserialized java.nio buffers
+     */
+    @Test
+    public void testWithBufferAllocator() {
+        JsonbConfig jsonbConfig = new JsonbConfig().withBufferAllocator(BufferAllocator.HEAP);
+
+        Optional<Object> property = jsonbConfig.getProperty(JsonbConfig.BUFFER_ALLOCATOR);
+        String validationMessage = "Failed to configure buffer allocator using JsonbConfig.withBufferAllocator method.";
+        assertTrue(property.isPresent(), validationMessage);
+        assertThat(validationMessage, property.get(), is(BufferAllocator.HEAP));
+    }
+
+    /*
+     * @testName: testWithParallelThreshold
+     *
+     * @test_Strategy: Assert that JsonbConfig.withParallelThreshold configures
+     * the minimal size of collections serialized in parallel
+     */
+    @Test
+    public void testWithParallelThreshold() {
+        JsonbConfig jsonbConfig = new JsonbConfig().withParallelThreshold(1000);
+
+        Optional<Object> property = jsonbConfig.getProperty(JsonbConfig.PARALLEL_THRESHOLD);
+        String validationMessage = "Failed to configure parallel threshold using JsonbConfig.withParallelThreshold method.";
+        assertTrue(property.isPresent(), validationMessage);
+        assertThat(validationMessage, property.get(), is(1000));
+    }
+
+    /*
+     * @testName: testWithCodecProvider
+     *
+     * @test_Strategy: Assert that JsonbConfig.withCodecProvider configures
+     * provider of byte-level readers and writers
+     */
+    @Test
+    public void testWithCodecProvider() {
+        ParserCodecProvider codecProvider = new ParserCodecProvider();
+        JsonbConfig jsonbConfig = new JsonbConfig().withCodecProvider(codecProvider);
+
+        Optional<Object> property = jsonbConfig.getProperty(JsonbConfig.CODEC_PROVIDER);
+        String validationMessage = "Failed to configure codec provider using JsonbConfig.withCodecProvider method.";
+        assertTrue(property.isPresent(), validationMessage);
+        assertThat(validationMessage, property.get(), is(codecProvider));
+    }
+
+    /*
+     * @testName: testWithStreamingSpillThreshold
+     *
+     * @test_Strategy: Assert that JsonbConfig.withStreamingSpillThreshold
+     * configures the size of deserialized streamed content kept in memory
+     */
+    @Test
+    public void testWithStreamingSpillThreshold() {
+        JsonbConfig jsonbConfig = new JsonbConfig().withStreamingSpillThreshold(65536L);
+
+        Optional<Object> property = jsonbConfig.getProperty(JsonbConfig.STREAMING_SPILL_THRESHOLD);
+        String validationMessage = "Failed to configure streaming spill threshold using "
+                + "JsonbConfig.withStreamingSpillThreshold method.";
+        assertTrue(property.isPresent(), validationMessage);
+        assertThat(validationMessage, property.get(), is(65536L));
+    }
+
+    /*
+     * @testName: testWithPolymorphicBufferLimit
+     *
+     * @test_Strategy: Assert that JsonbConfig.withPolymorphicBufferLimit
+     * configures the maximal number of properties preceding type information
+     */
+    @Test
+    public void testWithPolymorphicBufferLimit() {
+        JsonbConfig jsonbConfig = new JsonbConfig().withPolymorphicBufferLimit(16);
+
+        Optional<Object> property = jsonbConfig.getProperty(JsonbConfig.POLYMORPHIC_BUFFER_LIMIT);
+        String validationMessage = "Failed to configure polymorphic buffer limit using "
+                + "JsonbConfig.withPolymorphicBufferLimit method.";
+        assertTrue(property.isPresent(), validationMessage);
+        assertThat(validationMessage, property.get(), is(16));
+    }
+
 }
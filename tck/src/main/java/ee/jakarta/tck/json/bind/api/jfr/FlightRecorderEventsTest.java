@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.api.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.jfr.AdapterInvocationEvent;
+import jakarta.json.bind.jfr.BufferingEvent;
+import jakarta.json.bind.jfr.DeserializationEvent;
+import jakarta.json.bind.jfr.MetadataCompilationEvent;
+import jakarta.json.bind.jfr.SerializationEvent;
+import jakarta.json.bind.jfr.SerializerInvocationEvent;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import ee.jakarta.tck.json.bind.api.model.SimpleAnnotatedAdaptedContainer;
+import ee.jakarta.tck.json.bind.api.model.SimpleContainer;
+import ee.jakarta.tck.json.bind.api.model.SimpleContainerSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Tests for Java Flight Recorder events defined in the {@code jakarta.json.bind.jfr} package.
+ */
+public class FlightRecorderEventsTest {
+
+    private static final String TEST_JSON = "{ \"instance\" : \"Test String\" }";
+
+    /**
+     * Verify that all the JSON Binding events are disabled by default.
+     */
+    @Test
+    public void testEventsDisabledByDefault() {
+        for (Class<? extends Event> eventClass : List.of(MetadataCompilationEvent.class,
+                                                                 SerializationEvent.class,
+                                                                 DeserializationEvent.class,
+                                                                 AdapterInvocationEvent.class,
+                                                                 SerializerInvocationEvent.class,
+                                                                 BufferingEvent.class)) {
+            Enabled enabled = eventClass.getAnnotation(Enabled.class);
+            assertThat("Expected event " + eventClass.getName() + " to be disabled by default.",
+                       enabled != null && !enabled.value(), is(true));
+        }
+    }
+
+    /**
+     * Verify that serialization event is emitted with the serialized type.
+     */
+    @Test
+    public void testSerializationEvent() throws Exception {
+        List<RecordedEvent> events = record("jakarta.json.bind.Serialization",
+                                            jsonb -> jsonb.toJson(new SimpleContainer()));
+        assertThat("Expected serialization event to be emitted.", events, not(empty()));
+        assertThat("Expected serialization event to carry the serialized type.",
+                   types(events), hasItem(SimpleContainer.class.getTypeName()));
+    }
+
+    /**
+     * Verify that deserialization event is emitted with the deserialized type.
+     */
+    @Test
+    public void testDeserializationEvent() throws Exception {
+        List<RecordedEvent> events = record("jakarta.json.bind.Deserialization",
+                                            jsonb -> jsonb.fromJson(TEST_JSON, SimpleContainer.class));
+        assertThat("Expected deserialization event to be emitted.", events, not(empty()));
+        assertThat("Expected deserialization event to carry the deserialized type.",
+                   types(events), hasItem(SimpleContainer.class.getTypeName()));
+    }
+
+    /**
+     * Verify that metadata compilation event is emitted when the type is bound for the first time.
+     */
+    @Test
+    public void testMetadataCompilationEvent() throws Exception {
+        List<RecordedEvent> events = record("jakarta.json.bind.MetadataCompilation",
+                                            jsonb -> jsonb.toJson(new SimpleContainer()));
+        assertThat("Expected metadata compilation event to carry the compiled type.",
+                   types(events), hasItem(SimpleContainer.class.getTypeName()));
+    }
+
+    /**
+     * Verify that adapter invocation event is emitted for annotated adapter.
+     */
+    @Test
+    public void testAdapterInvocationEvent() throws Exception {
+        SimpleAnnotatedAdaptedContainer container = new SimpleAnnotatedAdaptedContainer();
+        container.setInstance(new SimpleContainer());
+        List<RecordedEvent> events = record("jakarta.json.bind.AdapterInvocation",
+                                            jsonb -> jsonb.toJson(container));
+        assertThat("Expected adapter invocation event to be emitted.", events, not(empty()));
+    }
+
+    /**
+     * Verify that serializer invocation event is emitted for a configured serializer.
+     */
+    @Test
+    public void testSerializerInvocationEvent() throws Exception {
+        List<RecordedEvent> events = record("jakarta.json.bind.SerializerInvocation",
+                                            new JsonbConfig().withSerializers(new SimpleContainerSerializer()),
+                                            jsonb -> jsonb.toJson(new SimpleContainer()));
+        assertThat("Expected serializer invocation event to be emitted.", events, not(empty()));
+    }
+
+    /**
+     * Verify that no event is recorded if the events are not enabled.
+     */
+    @Test
+    public void testNoEventsWhenNotEnabled() throws Exception {
+        List<RecordedEvent> events = record(null, jsonb -> jsonb.toJson(new SimpleContainer()));
+        assertThat("Expected no JSON Binding events to be recorded when not enabled.",
+                   events, is(empty()));
+    }
+
+    private static List<RecordedEvent> record(String eventName, JsonbOperation operation) throws Exception {
+        return record(eventName, new JsonbConfig(), operation);
+    }
+
+    private static List<RecordedEvent> record(String eventName,
+                                              JsonbConfig config,
+                                              JsonbOperation operation) throws Exception {
+        Path file = Files.createTempFile("jsonb", ".jfr");
+        try {
+            try (Recording recording = new Recording(); Jsonb jsonb = JsonbBuilder.create(config)) {
+                if (eventName != null) {
+                    recording.enable(eventName).withoutThreshold();
+                }
+                recording.start();
+                operation.run(jsonb);
+                recording.stop();
+                recording.dump(file);
+            }
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("jakarta.json.bind."))
+                    .filter(event -> eventName == null || event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<String> types(List<RecordedEvent> events) {
+        return events.stream().map(event -> event.getString("type")).collect(Collectors.toList());
+    }
+
+    @FunctionalInterface
+    private interface JsonbOperation {
+        void run(Jsonb jsonb) throws IOException;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.api.jsonb;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+
+import ee.jakarta.tck.json.bind.api.model.SimpleContainer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@code Jsonb.readJsonLinesParallel} methods.
+ */
+public class JsonLinesTest {
+
+    private static final int SIZE = 10_000;
+
+    private static final int PARALLELISM = 4;
+
+    /**
+     * Verify that values of all the lines are passed to the consumer in the order of the input,
+     * skipping blank lines and accepting both {@code \n} and {@code \r\n} line terminators.
+     */
+    @Test
+    public void testReadJsonLinesOrdered() throws Exception {
+        List<String> values = new ArrayList<>();
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            jsonb.<SimpleContainer>readJsonLinesParallel(input(lines(-1)), SimpleContainer.class,
+                                                         container -> values.add(container.getInstance()),
+                                                         PARALLELISM);
+        }
+        assertThat("Unexpected values passed to the consumer.", values, is(expected(SIZE)));
+    }
+
+    /**
+     * Verify that values of all the lines of a file are passed to the consumer if the order is not requested.
+     */
+    @Test
+    public void testReadJsonLinesUnorderedPath() throws Exception {
+        Path path = Files.createTempFile("jsonb", ".ndjson");
+        ConcurrentLinkedQueue<String> values = new ConcurrentLinkedQueue<>();
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            Files.write(path, lines(-1).getBytes(StandardCharsets.UTF_8));
+            jsonb.<SimpleContainer>readJsonLinesParallel(path, SimpleContainer.class,
+                                                         container -> values.add(container.getInstance()),
+                                                         PARALLELISM, false);
+        } finally {
+            Files.delete(path);
+        }
+        assertThat("Unexpected number of values passed to the consumer.", values.size(), is(SIZE));
+        assertThat("Unexpected values passed to the consumer.", new HashSet<>(values), is(Set.copyOf(expected(SIZE))));
+    }
+
+    /**
+     * Verify that a failed line is reported with its line number and that all the values of the preceding
+     * lines are passed to the consumer if the order is requested.
+     */
+    @Test
+    public void testReadJsonLinesInvalidLine() throws Exception {
+        int invalid = SIZE / 2;
+        List<String> values = Collections.synchronizedList(new ArrayList<>());
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            JsonbException exception = assertThrows(JsonbException.class, () -> jsonb.<SimpleContainer>readJsonLinesParallel(
+                    input(lines(invalid)), SimpleContainer.class, container -> values.add(container.getInstance()),
+                    PARALLELISM, true));
+            assertThat("Exception is expected to contain the number of the failed line.",
+                       exception.getMessage(), containsString(String.valueOf(lineNumber(invalid))));
+        }
+        assertThat("Values of the lines preceding the failed line are expected to be passed to the consumer.",
+                   values, is(expected(invalid)));
+    }
+
+    /**
+     * Verify that lines are terminated by {@code \n} only, so that a {@code \r} which does not precede it is
+     * whitespace within the line, and that lines of JSON whitespace other than space are skipped.
+     */
+    @Test
+    public void testReadJsonLinesCarriageReturnWithinLine() throws Exception {
+        List<String> values = new ArrayList<>();
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            jsonb.<SimpleContainer>readJsonLinesParallel(input("{ \"instance\" :\r\"value 0\" }\r\n"
+                                                                       + "\t\r\n"
+                                                                       + "{\r\"instance\" : \"value 1\" }"),
+                                                         SimpleContainer.class,
+                                                         container -> values.add(container.getInstance()),
+                                                         PARALLELISM);
+        }
+        assertThat("Unexpected values passed to the consumer.", values, is(expected(2)));
+    }
+
+    /**
+     * Verify that non-positive parallelism is rejected.
+     */
+    @Test
+    public void testReadJsonLinesInvalidParallelism() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            assertThrows(IllegalArgumentException.class,
+                         () -> jsonb.readJsonLinesParallel(input(lines(-1)), SimpleContainer.class, value -> { }, 0));
+        }
+    }
+
+    /**
+     * Every tenth value is followed by a blank line and every odd line is terminated by {@code \r\n}.
+     */
+    private static String lines(int invalid) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < SIZE; i++) {
+            if (i == invalid) {
+                builder.append("{ \"instance\" : ");
+            } else {
+                builder.append("{ \"instance\" : \"value ").append(i).append("\" }");
+            }
+            builder.append(i % 2 == 0 ? "\n" : "\r\n");
+            if (i % 10 == 9) {
+                builder.append("  \n");
+            }
+        }
+        return builder.toString();
+    }
+
+    private static long lineNumber(int index) {
+        return index + index / 10 + 1;
+    }
+
+    private static List<String> expected(int size) {
+        List<String> expected = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            expected.add("value " + i);
+        }
+        return expected;
+    }
+
+    private static ByteArrayInputStream input(String lines) {
+        return new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+    }
+}
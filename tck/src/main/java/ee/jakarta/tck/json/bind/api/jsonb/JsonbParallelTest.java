@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.api.jsonb;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+
+import ee.jakarta.tck.json.bind.api.model.SimpleContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for parallel {@code Jsonb} operations.
+ */
+public class JsonbParallelTest {
+
+    private static final int SIZE = 10_000;
+
+    private static final Type LIST_TYPE = new ArrayList<SimpleContainer>() { }.getClass().getGenericSuperclass();
+
+    private static final Type MAP_TYPE = new LinkedHashMap<String, List<SimpleContainer>>() { }.getClass()
+            .getGenericSuperclass();
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    public static void createPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public static void shutdownPool() {
+        pool.shutdown();
+    }
+
+    /**
+     * Verify that elements of a large root array are deserialized in the order of the input, including string
+     * values containing quotes, escapes and structural characters.
+     */
+    @Test
+    public void testFromJsonParallelList() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            List<SimpleContainer> result = jsonb.fromJsonParallel(input(), LIST_TYPE, pool);
+            assertElements(result.size(), i -> result.get(i).getInstance());
+        }
+    }
+
+    /**
+     * Verify that a large root array is deserialized into a Java array in the order of the input.
+     */
+    @Test
+    public void testFromJsonParallelArray() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            SimpleContainer[] result = jsonb.fromJsonParallel(input(), SimpleContainer[].class, pool);
+            assertElements(result.length, i -> result[i].getInstance());
+        }
+    }
+
+    /**
+     * Verify that a large root array is deserialized from a file in the order of the input.
+     */
+    @Test
+    public void testFromJsonParallelPath() throws Exception {
+        Path path = Files.createTempFile("jsonb", ".json");
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            Files.write(path, json().getBytes(StandardCharsets.UTF_8));
+            List<SimpleContainer> result = jsonb.fromJsonParallel(path, LIST_TYPE, pool);
+            assertElements(result.size(), i -> result.get(i).getInstance());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /**
+     * Verify that the result is equal to the sequential result if the root is not an array.
+     */
+    @Test
+    public void testFromJsonParallelObject() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            byte[] json = "{ \"instance\" : \"[1,2]\" }".getBytes(StandardCharsets.UTF_8);
+            SimpleContainer result = jsonb.fromJsonParallel(new ByteArrayInputStream(json), SimpleContainer.class, pool);
+            assertThat("Failed to deserialize root object using Jsonb.fromJsonParallel.",
+                       result.getInstance(), is("[1,2]"));
+        }
+    }
+
+    /**
+     * Verify that invalid element of a large root array results in {@link JsonbException}.
+     */
+    @Test
+    public void testFromJsonParallelInvalidElement() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            String json = json();
+            String invalid = json.substring(0, json.length() / 2) + "{ \"instance\" : }," + json.substring(json.length() / 2);
+            assertThrows(JsonbException.class,
+                         () -> jsonb.fromJsonParallel(new ByteArrayInputStream(invalid.getBytes(StandardCharsets.UTF_8)),
+                                                      LIST_TYPE, pool));
+        }
+    }
+
+    /**
+     * Verify that the output of parallel serialization of a large root collection is identical to the output
+     * of sequential serialization.
+     */
+    @Test
+    public void testToJsonParallelList() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withParallelThreshold(100))) {
+            assertIdenticalOutput(jsonb, containers(), LIST_TYPE);
+        }
+    }
+
+    /**
+     * Verify that the output of parallel serialization of a large root array is identical to the output
+     * of sequential serialization.
+     */
+    @Test
+    public void testToJsonParallelArray() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withParallelThreshold(100))) {
+            assertIdenticalOutput(jsonb, containers().toArray(new SimpleContainer[0]), SimpleContainer[].class);
+        }
+    }
+
+    /**
+     * Verify that the output of parallel serialization of a map with large collection values is identical
+     * to the output of sequential serialization, including formatting.
+     */
+    @Test
+    public void testToJsonParallelFormattedMap() throws Exception {
+        List<SimpleContainer> containers = containers();
+        Map<String, List<SimpleContainer>> map = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            map.put(value(i), i % 2 == 0 ? containers.subList(0, i) : Arrays.asList(new SimpleContainer()));
+        }
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withFormatting(true).withParallelThreshold(1))) {
+            assertIdenticalOutput(jsonb, map, MAP_TYPE);
+        }
+    }
+
+    private static void assertIdenticalOutput(Jsonb jsonb, Object object, Type type) {
+        ByteArrayOutputStream sequential = new ByteArrayOutputStream();
+        jsonb.toJson(object, type, sequential);
+        ByteArrayOutputStream parallel = new ByteArrayOutputStream();
+        jsonb.toJsonParallel(object, type, parallel, pool);
+        assertThat("Output of Jsonb.toJsonParallel is expected to be identical to the output of Jsonb.toJson.",
+                   parallel.toString(StandardCharsets.UTF_8), is(sequential.toString(StandardCharsets.UTF_8)));
+    }
+
+    private static List<SimpleContainer> containers() {
+        List<SimpleContainer> containers = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            SimpleContainer container = new SimpleContainer();
+            container.setInstance(value(i));
+            containers.add(container);
+        }
+        return containers;
+    }
+
+    private static String value(int i) {
+        switch (i % 4) {
+        case 0:
+            return "plain " + i;
+        case 1:
+            return "quoted \"" + i + "\", {\"instance\" : [" + i + "]}";
+        case 2:
+            return "escaped \\" + i + "\\\\\"";
+        default:
+            return "unicode é中 " + i + " ]}";
+        }
+    }
+
+    private static String json() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                builder.append(",\n");
+            }
+            builder.append("{ \"instance\" : \"")
+                    .append(value(i).replace("\\", "\\\\").replace("\"", "\\\""))
+                    .append("\" }");
+        }
+        return builder.append("]").toString();
+    }
+
+    private static ByteArrayInputStream input() {
+        return new ByteArrayInputStream(json().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertElements(int size, IntFunction<String> element) {
+        assertThat("Unexpected number of deserialized elements.", size, is(SIZE));
+        for (int i = 0; i < SIZE; i++) {
+            assertThat("Unexpected element at index " + i + ".", element.apply(i), is(value(i)));
+        }
+    }
+}
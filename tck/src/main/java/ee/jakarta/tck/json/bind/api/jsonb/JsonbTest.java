@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -27,9 +27,13 @@ import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
 
 import ee.jakarta.tck.json.bind.api.model.SimpleContainer;
 import org.junit.jupiter.api.Test;
@@ -37,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * @test
@@ -259,4 +264,62 @@ public class JsonbTest {
                        jsonString, matchesPattern(MATCHING_PATTERN));
         }
     }
+
+    /*
+     * @testName: testFromJsonPathType
+     *
+     * @test_Strategy: Assert that Jsonb.fromJson method with Path and Type
+     * arguments is working as expected
+     */
+    @Test
+    public void testFromJsonPathType() throws IOException {
+        Path path = Files.createTempFile("jsonb", ".json");
+        try {
+            Files.write(path, TEST_JSON_BYTE);
+            SimpleContainer unmarshalledObject = jsonb.fromJson(path, SimpleContainer.class);
+            assertThat("Failed to unmarshal using Jsonb.fromJson method with Path and Type arguments.",
+                       unmarshalledObject.getInstance(), is(TEST_STRING));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /*
+     * @testName: testToJsonObjectPath
+     *
+     * @test_Strategy: Assert that Jsonb.toJson method with Object and Path
+     * arguments is working as expected and replaces the content of existing file
+     */
+    @Test
+    public void testToJsonObjectPath() throws IOException {
+        Path path = Files.createTempFile("jsonb", ".json");
+        try {
+            Files.write(path, TEST_JSON_BYTE);
+            jsonb.toJson(new SimpleContainer(), path);
+            String jsonString = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            assertThat("Failed to marshal using Jsonb.toJson method with Object and Path arguments.",
+                       jsonString, matchesPattern(MATCHING_PATTERN));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    /*
+     * @testName: testToJsonObjectPathOptions
+     *
+     * @test_Strategy: Assert that Jsonb.toJson method with Object and Path
+     * arguments opens the file using provided options and reports I/O errors
+     * as JsonbException
+     */
+    @Test
+    public void testToJsonObjectPathOptions() throws IOException {
+        Path path = Files.createTempFile("jsonb", ".json");
+        try {
+            assertThrows(JsonbException.class,
+                         () -> jsonb.toJson(new SimpleContainer(), path, StandardOpenOption.CREATE_NEW,
+                                            StandardOpenOption.WRITE));
+        } finally {
+            Files.delete(path);
+        }
+    }
 }
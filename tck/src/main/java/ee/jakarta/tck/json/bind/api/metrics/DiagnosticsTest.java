@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.api.metrics;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.metrics.JsonbDiagnostics;
+
+import ee.jakarta.tck.json.bind.api.model.SimpleContainer;
+import ee.jakarta.tck.json.bind.api.model.SimpleContainerContainer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Tests for {@link Jsonb#getDiagnostics()} snapshots.
+ */
+public class DiagnosticsTest {
+
+    /**
+     * Verify that a bound type is reported as cached with a non-negative retained size estimate.
+     */
+    @Test
+    public void testCachedTypeReported() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            jsonb.toJson(new SimpleContainer());
+
+            JsonbDiagnostics diagnostics = jsonb.getDiagnostics();
+            Map<Type, Long> retained = diagnostics.getEstimatedRetainedBytesByType();
+            assertThat("Expected SimpleContainer to be reported as cached.",
+                       retained, hasKey(SimpleContainer.class));
+            assertThat("Expected non-negative retained size estimate of SimpleContainer.",
+                       retained.get(SimpleContainer.class), greaterThanOrEqualTo(0L));
+            assertThat("Expected cached type count to match the number of reported types.",
+                       diagnostics.getCachedTypeCount(), is(retained.size()));
+            assertThat("Expected total retained size to include the retained size of SimpleContainer.",
+                       diagnostics.getEstimatedRetainedBytes(), greaterThanOrEqualTo(retained.get(SimpleContainer.class)));
+        }
+    }
+
+    /**
+     * Verify that a snapshot taken before a type is bound does not change afterwards.
+     */
+    @Test
+    public void testDiagnosticsSnapshotIsImmutable() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            jsonb.toJson(new SimpleContainer());
+            JsonbDiagnostics snapshot = jsonb.getDiagnostics();
+            int cachedTypes = snapshot.getCachedTypeCount();
+            jsonb.toJson(new SimpleContainerContainer());
+            assertThat("Expected diagnostics snapshot not to change after it has been created.",
+                       snapshot.getCachedTypeCount(), is(cachedTypes));
+            assertThat("Expected diagnostics snapshot not to contain types bound after it has been created.",
+                       snapshot.getEstimatedRetainedBytesByType(), not(hasKey(SimpleContainerContainer.class)));
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.api.metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.metrics.JsonbStatistics;
+
+import ee.jakarta.tck.json.bind.api.model.RecordingMetricsListener;
+import ee.jakarta.tck.json.bind.api.model.RecordingMetricsListener.Notification;
+import ee.jakarta.tck.json.bind.api.model.SimpleContainer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests for {@link jakarta.json.bind.metrics.JsonbMetricsListener} notifications
+ * and {@link Jsonb#getStatistics()} snapshots.
+ */
+public class MetricsListenerTest {
+
+    private static final String TEST_JSON = "{ \"instance\" : \"Test String\" }";
+
+    /**
+     * Verify that the listener is notified about the compilation of the metadata
+     * of the serialized type.
+     */
+    @Test
+    public void testMetadataCompiledNotification() throws Exception {
+        RecordingMetricsListener listener = new RecordingMetricsListener();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withMetricsListener(listener))) {
+            jsonb.toJson(new SimpleContainer());
+        }
+        assertThat("Expected metadata compilation of SimpleContainer to be reported.",
+                   listener.getCompiled(), hasItem(SimpleContainer.class));
+    }
+
+    /**
+     * Verify that the listener is notified once about each serialization
+     * with the root type and the number of bytes written.
+     */
+    @Test
+    public void testSerializedNotification() throws Exception {
+        RecordingMetricsListener listener = new RecordingMetricsListener();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withMetricsListener(listener));
+                ByteArrayOutputStream stream = new ByteArrayOutputStream()) {
+            jsonb.toJson(new SimpleContainer(), stream);
+
+            assertThat("Expected exactly one serialization notification.",
+                       listener.getSerialized(), hasSize(1));
+            Notification notification = listener.getSerialized().get(0);
+            assertThat("Expected serialized root type to be reported.",
+                       notification.type(), is(SimpleContainer.class));
+            assertThat("Expected number of written bytes to be reported.",
+                       notification.bytes(), anyOf(is((long) stream.size()), is(-1L)));
+            assertThat("Expected non-negative duration to be reported.",
+                       notification.durationNanos(), greaterThanOrEqualTo(0L));
+        }
+    }
+
+    /**
+     * Verify that the listener is notified once about each deserialization
+     * with the root type and the number of bytes read.
+     */
+    @Test
+    public void testDeserializedNotification() throws Exception {
+        RecordingMetricsListener listener = new RecordingMetricsListener();
+        byte[] json = TEST_JSON.getBytes(StandardCharsets.UTF_8);
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withMetricsListener(listener))) {
+            jsonb.fromJson(new ByteArrayInputStream(json), SimpleContainer.class);
+        }
+        assertThat("Expected exactly one deserialization notification.",
+                   listener.getDeserialized(), hasSize(1));
+        Notification notification = listener.getDeserialized().get(0);
+        assertThat("Expected deserialized root type to be reported.",
+                   notification.type(), is(SimpleContainer.class));
+        assertThat("Expected number of read bytes to be reported.",
+                   notification.bytes(), anyOf(is((long) json.length), is(-1L)));
+        assertThat("Expected non-negative duration to be reported.",
+                   notification.durationNanos(), greaterThanOrEqualTo(0L));
+    }
+
+    /**
+     * Verify that a cache miss is reported for the first lookup of the metadata of a type and
+     * a cache hit for the following ones, if the metadata is cached between operations.
+     */
+    @Test
+    public void testCacheNotifications() throws Exception {
+        RecordingMetricsListener listener = new RecordingMetricsListener();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withMetricsListener(listener))) {
+            jsonb.toJson(new SimpleContainer());
+            jsonb.toJson(new SimpleContainer());
+        }
+        long compilations = listener.getCompiled().stream().filter(SimpleContainer.class::equals).count();
+        if (compilations < 2) {
+            assertThat("Expected cache miss of SimpleContainer metadata to be reported.",
+                       listener.getCacheMisses(), hasItem(SimpleContainer.class));
+            assertThat("Expected cache hit of SimpleContainer metadata to be reported.",
+                       listener.getCacheHits(), hasItem(SimpleContainer.class));
+        }
+    }
+
+    /**
+     * Verify that statistics snapshot contains cumulative counters of the performed operations.
+     */
+    @Test
+    public void testStatistics() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withStatistics(true))) {
+            jsonb.toJson(new SimpleContainer());
+            jsonb.toJson(new SimpleContainer());
+            jsonb.fromJson(TEST_JSON, SimpleContainer.class);
+
+            Map<?, JsonbStatistics.TypeStatistics> typeStatistics = jsonb.getStatistics().getTypeStatistics();
+            assertThat("Expected statistics of SimpleContainer to be present.",
+                       typeStatistics, hasKey(SimpleContainer.class));
+            JsonbStatistics.TypeStatistics statistics = typeStatistics.get(SimpleContainer.class);
+            assertThat("Expected two serializations to be counted.",
+                       statistics.getSerializationCount(), is(2L));
+            assertThat("Expected one deserialization to be counted.",
+                       statistics.getDeserializationCount(), is(1L));
+        }
+    }
+
+    /**
+     * Verify that a snapshot taken before an operation does not change afterwards.
+     */
+    @Test
+    public void testStatisticsSnapshotIsImmutable() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withStatistics(true))) {
+            jsonb.toJson(new SimpleContainer());
+            JsonbStatistics snapshot = jsonb.getStatistics();
+            jsonb.toJson(new SimpleContainer());
+            assertThat("Expected statistics snapshot not to change after it has been created.",
+                       snapshot.getTypeStatistics().get(SimpleContainer.class).getSerializationCount(), is(1L));
+        }
+    }
+
+    /**
+     * Verify that no statistics are collected by default.
+     */
+    @Test
+    public void testStatisticsDisabledByDefault() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            jsonb.toJson(new SimpleContainer());
+            JsonbStatistics statistics = jsonb.getStatistics();
+            assertThat("Expected no type statistics when statistics are disabled.",
+                       statistics.getTypeStatistics(), is(anEmptyMap()));
+            assertThat("Expected no cache hits when statistics are disabled.",
+                       statistics.getCacheHits(), is(0L));
+            assertThat("Expected no cache misses when statistics are disabled.",
+                       statistics.getCacheMisses(), is(0L));
+        }
+    }
+}
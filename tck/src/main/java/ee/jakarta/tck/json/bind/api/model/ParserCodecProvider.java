@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.api.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.Json;
+import jakarta.json.bind.spi.JsonbCodecProvider;
+import jakarta.json.bind.spi.JsonbCodecReader;
+import jakarta.json.bind.spi.JsonbCodecWriter;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Codec provider backed by JSON Processing parsers and generators, counting the created readers and writers.
+ */
+public class ParserCodecProvider extends JsonbCodecProvider {
+
+    private final AtomicInteger readers = new AtomicInteger();
+
+    private final AtomicInteger writers = new AtomicInteger();
+
+    public int getReaderCount() {
+        return readers.get();
+    }
+
+    public int getWriterCount() {
+        return writers.get();
+    }
+
+    @Override
+    public JsonbCodecReader createReader(InputStream stream) {
+        readers.incrementAndGet();
+        return new ParserCodecReader(Json.createParser(stream));
+    }
+
+    @Override
+    public JsonbCodecReader createReader(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return createReader(new ByteArrayInputStream(bytes));
+    }
+
+    @Override
+    public JsonbCodecWriter createWriter(OutputStream stream) {
+        writers.incrementAndGet();
+        return new GeneratorCodecWriter(Json.createGenerator(stream));
+    }
+
+    private static final class ParserCodecReader implements JsonbCodecReader {
+
+        private final JsonParser parser;
+
+        private ParserCodecReader(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return parser.hasNext();
+        }
+
+        @Override
+        public JsonParser.Event next() {
+            return parser.next();
+        }
+
+        @Override
+        public int matchName(byte[][] names) {
+            byte[] name = parser.getString().getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < names.length; i++) {
+                if (Arrays.equals(name, names[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public String getString() {
+            return parser.getString();
+        }
+
+        @Override
+        public boolean isIntegralNumber() {
+            return parser.isIntegralNumber();
+        }
+
+        @Override
+        public int getInt() {
+            return parser.getInt();
+        }
+
+        @Override
+        public long getLong() {
+            return parser.getLong();
+        }
+
+        @Override
+        public double getDouble() {
+            return parser.getBigDecimal().doubleValue();
+        }
+
+        @Override
+        public BigDecimal getBigDecimal() {
+            return parser.getBigDecimal();
+        }
+
+        @Override
+        public void skipValue() {
+            JsonParser.Event current = parser.currentEvent();
+            if (current == JsonParser.Event.START_OBJECT) {
+                parser.skipObject();
+            } else if (current == JsonParser.Event.START_ARRAY) {
+                parser.skipArray();
+            }
+        }
+
+        @Override
+        public JsonParser asParser() {
+            return parser;
+        }
+
+        @Override
+        public void close() {
+            parser.close();
+        }
+    }
+
+    private static final class GeneratorCodecWriter implements JsonbCodecWriter {
+
+        private final JsonGenerator generator;
+
+        private GeneratorCodecWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void writeStartObject() {
+            generator.writeStartObject();
+        }
+
+        @Override
+        public void writeStartArray() {
+            generator.writeStartArray();
+        }
+
+        @Override
+        public void writeEnd() {
+            generator.writeEnd();
+        }
+
+        @Override
+        public void writeName(String name) {
+            generator.writeKey(name);
+        }
+
+        @Override
+        public void writeName(byte[] escapedName) {
+            // names used by the tests contain no escape sequences
+            generator.writeKey(new String(escapedName, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void write(String value) {
+            generator.write(value);
+        }
+
+        @Override
+        public void write(int value) {
+            generator.write(value);
+        }
+
+        @Override
+        public void write(long value) {
+            generator.write(value);
+        }
+
+        @Override
+        public void write(double value) {
+            generator.write(value);
+        }
+
+        @Override
+        public void write(BigDecimal value) {
+            generator.write(value);
+        }
+
+        @Override
+        public void write(boolean value) {
+            generator.write(value);
+        }
+
+        @Override
+        public void writeNull() {
+            generator.writeNull();
+        }
+
+        @Override
+        public JsonGenerator asGenerator() {
+            return generator;
+        }
+
+        @Override
+        public void flush() {
+            generator.flush();
+        }
+
+        @Override
+        public void close() {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.api.model;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import jakarta.json.bind.metrics.JsonbMetricsListener;
+
+/**
+ * Metrics listener which records all the received notifications.
+ */
+public class RecordingMetricsListener implements JsonbMetricsListener {
+
+    private final List<Type> compiled = new CopyOnWriteArrayList<>();
+    private final List<Notification> serialized = new CopyOnWriteArrayList<>();
+    private final List<Notification> deserialized = new CopyOnWriteArrayList<>();
+    private final List<Type> cacheHits = new CopyOnWriteArrayList<>();
+    private final List<Type> cacheMisses = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onMetadataCompiled(Type type, long durationNanos) {
+        compiled.add(type);
+    }
+
+    @Override
+    public void onSerialized(Type type, long bytes, long durationNanos) {
+        serialized.add(new Notification(type, bytes, durationNanos));
+    }
+
+    @Override
+    public void onDeserialized(Type type, long bytes, long durationNanos) {
+        deserialized.add(new Notification(type, bytes, durationNanos));
+    }
+
+    @Override
+    public void onCacheHit(Type type) {
+        cacheHits.add(type);
+    }
+
+    @Override
+    public void onCacheMiss(Type type) {
+        cacheMisses.add(type);
+    }
+
+    public List<Type> getCompiled() {
+        return compiled;
+    }
+
+    public List<Notification> getSerialized() {
+        return serialized;
+    }
+
+    public List<Notification> getDeserialized() {
+        return deserialized;
+    }
+
+    public List<Type> getCacheHits() {
+        return cacheHits;
+    }
+
+    public List<Type> getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public record Notification(Type type, long bytes, long durationNanos) {
+    }
+}
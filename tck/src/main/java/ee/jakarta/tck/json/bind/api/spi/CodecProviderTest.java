@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.api.spi;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+
+import ee.jakarta.tck.json.bind.api.model.ParserCodecProvider;
+import ee.jakarta.tck.json.bind.api.model.SimpleAnnotatedSerializedContainer;
+import ee.jakarta.tck.json.bind.api.model.SimpleContainer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+
+/**
+ * Tests for {@link jakarta.json.bind.spi.JsonbCodecProvider} configured by {@link JsonbConfig#withCodecProvider}.
+ */
+public class CodecProviderTest {
+
+    private static final String JSON = "{ \"instance\" : \"Test String\" }";
+
+    /**
+     * Verify that a configured codec provider is used to read UTF-8 encoded byte stream.
+     */
+    @Test
+    public void testCodecReaderUsed() throws Exception {
+        ParserCodecProvider codecProvider = new ParserCodecProvider();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withCodecProvider(codecProvider))) {
+            SimpleContainer container = jsonb.fromJson(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)),
+                                                       SimpleContainer.class);
+            assertThat("Failed to deserialize using codec provider.", container.getInstance(), is("Test String"));
+            assertThat("Configured codec provider is expected to be used to read UTF-8 input.",
+                       codecProvider.getReaderCount(), greaterThan(0));
+        }
+    }
+
+    /**
+     * Verify that a configured codec provider is used to write UTF-8 encoded byte stream.
+     */
+    @Test
+    public void testCodecWriterUsed() throws Exception {
+        ParserCodecProvider codecProvider = new ParserCodecProvider();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withCodecProvider(codecProvider))) {
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            jsonb.toJson(new SimpleContainer(), stream);
+            assertThat("Failed to serialize using codec provider.", stream.toString(StandardCharsets.UTF_8),
+                       matchesPattern("\\{\\s*\"instance\"\\s*:\\s*\"Test\"\\s*}"));
+            assertThat("Configured codec provider is expected to be used to write UTF-8 output.",
+                       codecProvider.getWriterCount(), greaterThan(0));
+        }
+    }
+
+    /**
+     * Verify that custom serializers and deserializers work with JSON Processing parser and generator
+     * obtained from the codec reader and writer, and that binding continues after they return.
+     */
+    @Test
+    public void testCustomSerializersFallback() throws Exception {
+        ParserCodecProvider codecProvider = new ParserCodecProvider();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withCodecProvider(codecProvider))) {
+            SimpleContainer instance = new SimpleContainer();
+            SimpleAnnotatedSerializedContainer container = new SimpleAnnotatedSerializedContainer();
+            container.setInstance(instance);
+
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            jsonb.toJson(container, stream);
+            assertThat("Failed to serialize using custom serializer with codec provider.",
+                       stream.toString(StandardCharsets.UTF_8),
+                       matchesPattern("\\{\\s*\"instance\"\\s*:\\s*\\{\\s*\"instance\"\\s*:\\s*\"Test Serialized\"\\s*}\\s*}"));
+
+            String json = "[{ \"instance\" : { \"instance\" : \"Test\" } }, { \"instance\" : { \"instance\" : \"Next\" } }]";
+            SimpleAnnotatedSerializedContainer[] result = jsonb.fromJson(
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), SimpleAnnotatedSerializedContainer[].class);
+            assertThat("Failed to deserialize using custom deserializer with codec provider.",
+                       result[0].getInstance().getInstance(), is("Test Deserialized"));
+            assertThat("Failed to continue deserialization with codec provider after custom deserializer.",
+                       result[1].getInstance().getInstance(), is("Next Deserialized"));
+        }
+    }
+
+    /**
+     * Verify that a configured codec provider is not used to read character stream.
+     */
+    @Test
+    public void testCodecNotUsedForCharacterStream() throws Exception {
+        ParserCodecProvider codecProvider = new ParserCodecProvider();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withCodecProvider(codecProvider))) {
+            SimpleContainer container = jsonb.fromJson(new StringReader(JSON), SimpleContainer.class);
+            assertThat("Failed to deserialize character stream.", container.getInstance(), is("Test String"));
+            assertThat("Codec provider is not expected to be used to read character stream.",
+                       codecProvider.getReaderCount(), is(0));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,14 +25,27 @@ import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.config.BinaryDataStrategy;
 
+import ee.jakarta.tck.json.bind.customizedmapping.binarydata.model.Attachment;
 import ee.jakarta.tck.json.bind.customizedmapping.binarydata.model.BinaryDataContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.binarydata.model.ChannelBinaryContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.binarydata.model.StreamBinaryContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.binarydata.model.SupplierBinaryContainer;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
 
 /**
  * @test
@@ -41,6 +54,8 @@ import java.nio.charset.StandardCharsets;
  **/
 public class BinaryDataCustomizationTest {
 
+    private static final byte[] TEST_STRING = "Test String".getBytes(StandardCharsets.UTF_8);
+
     /*
      * @testName: testByteBinaryDataEncoding
      *
@@ -106,4 +121,194 @@ public class BinaryDataCustomizationTest {
         assertThat("Failed to correctly unmarshal binary data using BASE_64_URL binary data encoding.",
                    new String(unmarshalledObject.getData(), StandardCharsets.UTF_8), is("Test String")); //Data was encoded using UTF-8
     }
+
+    /*
+     * @testName: testBase64StreamBinaryDataEncoding
+     *
+     * @test_Strategy: Assert that InputStream property is correctly encoded
+     * using BASE_64 binary data encoding, that the serialized stream is closed
+     * and that the deserialized stream provides the decoded data
+     */
+    @Test
+    public void testBase64StreamBinaryDataEncoding() throws IOException {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withBinaryDataStrategy(BinaryDataStrategy.BASE_64));
+        boolean[] closed = new boolean[1];
+        StreamBinaryContainer container = new StreamBinaryContainer();
+        container.setData(new ByteArrayInputStream(TEST_STRING) {
+            @Override
+            public void close() throws IOException {
+                closed[0] = true;
+                super.close();
+            }
+        });
+
+        String jsonString = jsonb.toJson(container);
+        assertThat("Failed to correctly marshal InputStream property using BASE_64 binary data encoding.",
+                   jsonString, matchesPattern("\\{\\s*\"data\"\\s*:\\s*\"VGVzdCBTdHJpbmc=\"\\s*}"));
+        assertThat("Failed to close InputStream property after marshalling.", closed[0], is(true));
+
+        StreamBinaryContainer unmarshalledObject = jsonb.fromJson("{ \"data\" : \"VGVzdCBTdHJpbmc=\" }",
+                                                                  StreamBinaryContainer.class);
+        try (InputStream data = unmarshalledObject.getData()) {
+            assertThat("Failed to correctly unmarshal InputStream property using BASE_64 binary data encoding.",
+                       new String(data.readAllBytes(), StandardCharsets.UTF_8), is("Test String"));
+        }
+    }
+
+    /*
+     * @testName: testByteStreamBinaryDataEncoding
+     *
+     * @test_Strategy: Assert that InputStream property is correctly encoded
+     * using BYTE binary data encoding
+     */
+    @Test
+    public void testByteStreamBinaryDataEncoding() throws IOException {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withBinaryDataStrategy(BinaryDataStrategy.BYTE));
+        StreamBinaryContainer container = new StreamBinaryContainer();
+        container.setData(new ByteArrayInputStream("Test".getBytes(StandardCharsets.UTF_8)));
+
+        String jsonString = jsonb.toJson(container);
+        assertThat("Failed to correctly marshal InputStream property using BYTE binary data encoding.",
+                   jsonString, matchesPattern("\\{\\s*\"data\"\\s*:\\s*\\[\\s*84\\s*,\\s*101\\s*,\\s*115\\s*,\\s*116\\s*]\\s*}"));
+
+        StreamBinaryContainer unmarshalledObject = jsonb.fromJson("{ \"data\" : [ 84, 101, 115, 116 ] }",
+                                                                  StreamBinaryContainer.class);
+        try (InputStream data = unmarshalledObject.getData()) {
+            assertThat("Failed to correctly unmarshal InputStream property using BYTE binary data encoding.",
+                       new String(data.readAllBytes(), StandardCharsets.UTF_8), is("Test"));
+        }
+    }
+
+    /*
+     * @testName: testBase64UrlChannelBinaryDataEncoding
+     *
+     * @test_Strategy: Assert that ReadableByteChannel property is correctly
+     * encoded using BASE_64_URL binary data encoding
+     */
+    @Test
+    public void testBase64UrlChannelBinaryDataEncoding() throws IOException {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withBinaryDataStrategy(BinaryDataStrategy.BASE_64_URL));
+        byte[] bytes = {(byte) 0xfb, (byte) 0xff, (byte) 0xbf};
+        ChannelBinaryContainer container = new ChannelBinaryContainer();
+        container.setData(Channels.newChannel(new ByteArrayInputStream(bytes)));
+
+        String jsonString = jsonb.toJson(container);
+        assertThat("Failed to correctly marshal ReadableByteChannel property using BASE_64_URL binary data encoding.",
+                   jsonString, matchesPattern("\\{\\s*\"data\"\\s*:\\s*\"-_-_\"\\s*}"));
+
+        ChannelBinaryContainer unmarshalledObject = jsonb.fromJson(jsonString, ChannelBinaryContainer.class);
+        try (ReadableByteChannel data = unmarshalledObject.getData()) {
+            assertThat("Failed to correctly unmarshal ReadableByteChannel property using BASE_64_URL binary data encoding.",
+                       Channels.newInputStream(data).readAllBytes(), is(bytes));
+        }
+    }
+
+    /*
+     * @testName: testBase64SupplierBinaryDataEncoding
+     *
+     * @test_Strategy: Assert that Supplier<InputStream> property is correctly
+     * encoded using BASE_64 binary data encoding and that each call of the
+     * deserialized supplier provides the whole decoded data
+     */
+    @Test
+    public void testBase64SupplierBinaryDataEncoding() throws IOException {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withBinaryDataStrategy(BinaryDataStrategy.BASE_64));
+        SupplierBinaryContainer container = new SupplierBinaryContainer();
+        container.setData(() -> new ByteArrayInputStream(TEST_STRING));
+
+        String jsonString = jsonb.toJson(container);
+        assertThat("Failed to correctly marshal Supplier<InputStream> property using BASE_64 binary data encoding.",
+                   jsonString, matchesPattern("\\{\\s*\"data\"\\s*:\\s*\"VGVzdCBTdHJpbmc=\"\\s*}"));
+
+        SupplierBinaryContainer unmarshalledObject = jsonb.fromJson(jsonString, SupplierBinaryContainer.class);
+        for (int i = 0; i < 2; i++) {
+            try (InputStream data = unmarshalledObject.getData().get()) {
+                assertThat("Failed to correctly unmarshal Supplier<InputStream> property using BASE_64 binary data encoding.",
+                           new String(data.readAllBytes(), StandardCharsets.UTF_8), is("Test String"));
+            }
+        }
+    }
+
+    /*
+     * @testName: testBase64StreamBinaryDataSpill
+     *
+     * @test_Strategy: Assert that InputStream property larger than the
+     * configured streaming spill threshold is correctly marshalled and
+     * unmarshalled
+     */
+    @Test
+    public void testBase64StreamBinaryDataSpill() throws IOException {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withBinaryDataStrategy(BinaryDataStrategy.BASE_64)
+                                                  .withStreamingSpillThreshold(4096));
+        byte[] bytes = new byte[1024 * 1024 + 1];
+        new Random(42).nextBytes(bytes);
+        StreamBinaryContainer container = new StreamBinaryContainer();
+        container.setData(new ByteArrayInputStream(bytes));
+
+        String jsonString = jsonb.toJson(container);
+        assertThat("Failed to correctly marshal large InputStream property using BASE_64 binary data encoding.",
+                   jsonString.replaceAll("\\s", ""),
+                   is("{\"data\":\"" + Base64.getEncoder().encodeToString(bytes) + "\"}"));
+
+        StreamBinaryContainer unmarshalledObject = jsonb.fromJson(jsonString, StreamBinaryContainer.class);
+        try (InputStream data = unmarshalledObject.getData()) {
+            assertThat("Failed to correctly unmarshal large InputStream property using BASE_64 binary data encoding.",
+                       Arrays.equals(data.readAllBytes(), bytes), is(true));
+        }
+    }
+
+    /*
+     * @testName: testBase64SupplierBinaryDataSpill
+     *
+     * @test_Strategy: Assert that Supplier<InputStream> property larger than
+     * the configured streaming spill threshold provides the whole decoded data
+     * after the previously supplied streams are closed and that the supplier
+     * cannot be called after the Jsonb instance is closed
+     */
+    @Test
+    public void testBase64SupplierBinaryDataSpill() throws Exception {
+        byte[] bytes = new byte[1024 * 1024 + 1];
+        new Random(42).nextBytes(bytes);
+        String jsonString = "{\"data\":\"" + Base64.getEncoder().encodeToString(bytes) + "\"}";
+
+        SupplierBinaryContainer unmarshalledObject;
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withBinaryDataStrategy(BinaryDataStrategy.BASE_64)
+                                                       .withStreamingSpillThreshold(4096))) {
+            unmarshalledObject = jsonb.fromJson(jsonString, SupplierBinaryContainer.class);
+            for (int i = 0; i < 2; i++) {
+                try (InputStream data = unmarshalledObject.getData().get()) {
+                    assertThat("Failed to correctly unmarshal large Supplier<InputStream> property using BASE_64 binary data encoding.",
+                               Arrays.equals(data.readAllBytes(), bytes), is(true));
+                }
+            }
+        }
+        assertThrows(IllegalStateException.class, () -> unmarshalledObject.getData().get(),
+                     "Supplier<InputStream> is not expected to be called after the Jsonb instance is closed.");
+    }
+
+    /*
+     * @testName: testBase64ContextBinaryData
+     *
+     * @test_Strategy: Assert that SerializationContext.writeBinary and
+     * DeserializationContext.readBinary use the configured binary data
+     * encoding and that readBinary writes the decoded data to the provided sink
+     */
+    @Test
+    public void testBase64ContextBinaryData() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withBinaryDataStrategy(BinaryDataStrategy.BASE_64));
+        Attachment attachment = new Attachment();
+        attachment.setName("test.txt");
+        attachment.setContent(TEST_STRING);
+
+        String jsonString = jsonb.toJson(attachment);
+        assertThat("Failed to correctly marshal binary data using SerializationContext.writeBinary.",
+                   jsonString,
+                   matchesPattern("\\{\\s*\"name\"\\s*:\\s*\"test.txt\"\\s*,\\s*\"content\"\\s*:\\s*\"VGVzdCBTdHJpbmc=\"\\s*}"));
+
+        Attachment unmarshalledObject = jsonb.fromJson(jsonString, Attachment.class);
+        assertThat("Failed to correctly unmarshal binary data using DeserializationContext.readBinary.",
+                   new String(unmarshalledObject.getContent(), StandardCharsets.UTF_8), is("Test String"));
+        assertThat("Failed to return number of bytes written by DeserializationContext.readBinary.",
+                   unmarshalledObject.getSize(), is((long) TEST_STRING.length));
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -25,7 +25,9 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -36,6 +38,7 @@ import java.util.Locale;
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
 import jakarta.json.bind.annotation.JsonbDateFormat;
 
 import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.AnnotatedAccessorsDateContainer;
@@ -43,6 +46,10 @@ import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.AnnotatedFiel
 import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.AnnotatedTypeDateContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.AnnotatedTypeFieldOverrideDateContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.DateContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.EpochNanosInstantContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.EpochNanosZonedDateTimeContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.EpochSecondsDateContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.EpochSecondsInstantContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.customized.CustomizedPackageDateContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.customized.CustomizedPackageTypeOverrideDateContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.dateformat.model.customized.CustomizedPackageTypeOverrideFieldOverrideDateContainer;
@@ -51,6 +58,7 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 /**
@@ -390,6 +398,168 @@ public class DateFormatCustomizationTest {
                    unmarshalledObject.getInstance(), is(instance));
     }
 
+    /*
+     * @testName: testDateFormatEpochSeconds
+     *
+     * @test_Strategy: Assert that JsonbDateFormat.EPOCH_SECONDS serializes an
+     * Instant as a number of seconds with an optional fraction and that both
+     * integral and decimal numbers are accepted during unmarshalling
+     */
+    @Test
+    public void testDateFormatEpochSeconds() {
+        String jsonString = jsonb.toJson(new EpochSecondsInstantContainer() {{
+            setInstance(Instant.ofEpochSecond(1700000000L, 123456789));
+        }});
+        assertThat("Failed to correctly customize date format during marshalling using JsonbDateFormat.EPOCH_SECONDS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*1700000000\\.123456789\\s*\\}"));
+
+        jsonString = jsonb.toJson(new EpochSecondsInstantContainer() {{
+            setInstance(Instant.ofEpochSecond(1700000000L));
+        }});
+        assertThat("Failed to omit zero fraction during marshalling using JsonbDateFormat.EPOCH_SECONDS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*1700000000\\s*\\}"));
+
+        jsonString = jsonb.toJson(new EpochSecondsInstantContainer() {{
+            setInstance(Instant.ofEpochSecond(1700000000L, 120000000));
+        }});
+        assertThat("Failed to remove trailing zeros of fraction during marshalling using JsonbDateFormat.EPOCH_SECONDS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*1700000000\\.12\\s*\\}"));
+
+        jsonString = jsonb.toJson(new EpochSecondsInstantContainer() {{
+            setInstance(Instant.ofEpochSecond(-2L, 500000000));
+        }});
+        assertThat("Failed to correctly marshal date before the epoch using JsonbDateFormat.EPOCH_SECONDS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*-1\\.5\\s*\\}"));
+
+        EpochSecondsInstantContainer unmarshalledObject = jsonb.fromJson("{ \"instance\" : 1700000000.5 }",
+                                                                          EpochSecondsInstantContainer.class);
+        assertThat("Failed to correctly unmarshal decimal number using JsonbDateFormat.EPOCH_SECONDS.",
+                   unmarshalledObject.getInstance(), is(Instant.ofEpochSecond(1700000000L, 500000000)));
+
+        unmarshalledObject = jsonb.fromJson("{ \"instance\" : 1700000000 }", EpochSecondsInstantContainer.class);
+        assertThat("Failed to correctly unmarshal integral number using JsonbDateFormat.EPOCH_SECONDS.",
+                   unmarshalledObject.getInstance(), is(Instant.ofEpochSecond(1700000000L)));
+    }
+
+    /*
+     * @testName: testDateFormatEpochSecondsDate
+     *
+     * @test_Strategy: Assert that JsonbDateFormat.EPOCH_SECONDS is correctly
+     * applied to java.util.Date
+     */
+    @Test
+    public void testDateFormatEpochSecondsDate() {
+        Date instance = new Date(1700000000123L);
+        String jsonString = jsonb.toJson(new EpochSecondsDateContainer() {{
+            setInstance(instance);
+        }});
+        assertThat("Failed to correctly customize date format of java.util.Date using JsonbDateFormat.EPOCH_SECONDS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*1700000000\\.123\\s*\\}"));
+
+        EpochSecondsDateContainer unmarshalledObject = jsonb.fromJson(jsonString, EpochSecondsDateContainer.class);
+        assertThat("Failed to correctly unmarshal java.util.Date using JsonbDateFormat.EPOCH_SECONDS.",
+                   unmarshalledObject.getInstance(), is(instance));
+    }
+
+    /*
+     * @testName: testDateFormatEpochNanos
+     *
+     * @test_Strategy: Assert that JsonbDateFormat.EPOCH_NANOS serializes an
+     * Instant as an integral number of nanoseconds, including dates before the
+     * epoch
+     */
+    @Test
+    public void testDateFormatEpochNanos() {
+        String jsonString = jsonb.toJson(new EpochNanosInstantContainer() {{
+            setInstance(Instant.ofEpochSecond(1700000000L, 123456789));
+        }});
+        assertThat("Failed to correctly customize date format during marshalling using JsonbDateFormat.EPOCH_NANOS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*1700000000123456789\\s*\\}"));
+
+        EpochNanosInstantContainer unmarshalledObject = jsonb.fromJson(jsonString, EpochNanosInstantContainer.class);
+        assertThat("Failed to correctly customize date format during unmarshalling using JsonbDateFormat.EPOCH_NANOS.",
+                   unmarshalledObject.getInstance(), is(Instant.ofEpochSecond(1700000000L, 123456789)));
+
+        jsonString = jsonb.toJson(new EpochNanosInstantContainer() {{
+            setInstance(Instant.ofEpochSecond(-1L, 1));
+        }});
+        assertThat("Failed to correctly marshal date before the epoch using JsonbDateFormat.EPOCH_NANOS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*-999999999\\s*\\}"));
+
+        unmarshalledObject = jsonb.fromJson(jsonString, EpochNanosInstantContainer.class);
+        assertThat("Failed to correctly unmarshal date before the epoch using JsonbDateFormat.EPOCH_NANOS.",
+                   unmarshalledObject.getInstance(), is(Instant.ofEpochSecond(-1L, 1)));
+    }
+
+    /*
+     * @testName: testDateFormatEpochNanosOutOfRange
+     *
+     * @test_Strategy: Assert that JsonbException is thrown when a date out of
+     * the range of long nanoseconds is marshalled or a number out of this range
+     * is unmarshalled using JsonbDateFormat.EPOCH_NANOS
+     */
+    @Test
+    public void testDateFormatEpochNanosOutOfRange() {
+        EpochNanosInstantContainer container = new EpochNanosInstantContainer();
+        container.setInstance(Instant.ofEpochSecond(0L, Long.MAX_VALUE).plusNanos(1));
+        assertThrows(JsonbException.class, () -> jsonb.toJson(container),
+                     "Date after the range of JsonbDateFormat.EPOCH_NANOS is not expected to be marshalled.");
+
+        container.setInstance(Instant.ofEpochSecond(0L, Long.MIN_VALUE).minusNanos(1));
+        assertThrows(JsonbException.class, () -> jsonb.toJson(container),
+                     "Date before the range of JsonbDateFormat.EPOCH_NANOS is not expected to be marshalled.");
+
+        assertThrows(JsonbException.class,
+                     () -> jsonb.fromJson("{ \"instance\" : 9223372036854775808 }", EpochNanosInstantContainer.class),
+                     "Number out of the range of JsonbDateFormat.EPOCH_NANOS is not expected to be unmarshalled.");
+    }
+
+    /*
+     * @testName: testDateFormatEpochNanosZonedDateTime
+     *
+     * @test_Strategy: Assert that JsonbDateFormat.EPOCH_NANOS is correctly
+     * applied to java.time.ZonedDateTime and that UTC is used during
+     * unmarshalling
+     */
+    @Test
+    public void testDateFormatEpochNanosZonedDateTime() {
+        Instant instant = Instant.ofEpochSecond(1700000000L, 42);
+        String jsonString = jsonb.toJson(new EpochNanosZonedDateTimeContainer() {{
+            setInstance(ZonedDateTime.ofInstant(instant, ZoneId.of("Europe/Prague")));
+        }});
+        assertThat("Failed to correctly customize date format of java.time.ZonedDateTime using JsonbDateFormat.EPOCH_NANOS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*1700000000000000042\\s*\\}"));
+
+        EpochNanosZonedDateTimeContainer unmarshalledObject = jsonb.fromJson(jsonString,
+                                                                             EpochNanosZonedDateTimeContainer.class);
+        assertThat("Failed to correctly unmarshal java.time.ZonedDateTime using JsonbDateFormat.EPOCH_NANOS.",
+                   unmarshalledObject.getInstance().toInstant(), is(instant));
+        assertThat("Failed to use UTC when unmarshalling java.time.ZonedDateTime using JsonbDateFormat.EPOCH_NANOS.",
+                   unmarshalledObject.getInstance().getOffset(), is(ZoneOffset.UTC));
+    }
+
+    /*
+     * @testName: testDateFormatConfigEpochSeconds
+     *
+     * @test_Strategy: Assert that JsonbDateFormat.EPOCH_SECONDS can be used as
+     * JsonbConfig.withDateFormat customization
+     */
+    @Test
+    public void testDateFormatConfigEpochSeconds() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withDateFormat(JsonbDateFormat.EPOCH_SECONDS, Locale.ROOT));
+        Date instance = new Date(1500L);
+        String jsonString = jsonb.toJson(new DateContainer() {{
+            setInstance(instance);
+        }});
+        assertThat("Failed to correctly customize date format using JsonbConfig.withDateFormat and "
+                           + "JsonbDateFormat.EPOCH_SECONDS.",
+                   jsonString, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*1\\.5\\s*\\}"));
+
+        DateContainer unmarshalledObject = jsonb.fromJson(jsonString, DateContainer.class);
+        assertThat("Failed to correctly unmarshal using JsonbConfig.withDateFormat and JsonbDateFormat.EPOCH_SECONDS.",
+                   unmarshalledObject.getInstance(), is(instance));
+    }
+
     private String completeByFormat(String prefix, String suffix, String mask,
                                     Locale locale, Date value) {
         return prefix + '"' + format(mask, locale, value) + '"' + suffix;
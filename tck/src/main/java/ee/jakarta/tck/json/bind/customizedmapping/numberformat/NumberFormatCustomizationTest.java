@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,11 +20,24 @@
 
 package ee.jakarta.tck.json.bind.customizedmapping.numberformat;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 
 import ee.jakarta.tck.json.bind.customizedmapping.numberformat.model.AccessorCustomizedDoubleContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.numberformat.model.FieldCustomizedDoubleContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.numberformat.model.PriceContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.numberformat.model.TypeCustomizedDoubleContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.numberformat.model.TypeCustomizedFieldOverriddenDoubleContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.numberformat.model.customized.PackageCustomizedDoubleContainer;
@@ -35,6 +48,7 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.fail;
 
 /**
  * @test
@@ -45,6 +59,12 @@ public class NumberFormatCustomizationTest {
 
     private static final String FRENCH_NUMBER = "\"123\\u00a0456,789\"";
 
+    private static final double[] AMOUNTS = {0, -0.5, 0.125, 0.135, 1.005, 2.675, 19.99, 1234.5, 1e9 + 0.015, -42.4242};
+
+    private static final int THREADS = 8;
+
+    private static final int ITERATIONS = 2000;
+
     private final Jsonb jsonb = JsonbBuilder.create();
 
     /*
@@ -215,4 +235,82 @@ public class NumberFormatCustomizationTest {
                    unmarshalledObject.getInstance(), is(123456.789));
     }
 
+    /*
+     * @testName: testNumberFormatSimplePatterns
+     *
+     * @test_Strategy: Assert that values formatted with simple JsonbNumberFormat
+     * patterns are the same as the values formatted by java.text.DecimalFormat,
+     * including rounding of values which are not exactly representable
+     */
+    @Test
+    public void testNumberFormatSimplePatterns() {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.ENGLISH);
+        DecimalFormat amountFormat = new DecimalFormat("#0.00", symbols);
+        DecimalFormat ratioFormat = new DecimalFormat("0.###", symbols);
+        for (double value : AMOUNTS) {
+            PriceContainer instance = new PriceContainer();
+            instance.setAmount(value);
+            instance.setRatio(value);
+            String jsonString = jsonb.toJson(instance);
+            assertThat("Failed to format " + value + " using JsonbNumberFormat pattern #0.00 the same way as DecimalFormat.",
+                       jsonString,
+                       matchesPattern(".*\"amount\"\\s*:\\s*\"" + Pattern.quote(amountFormat.format(value)) + "\".*"));
+            assertThat("Failed to format " + value + " using JsonbNumberFormat pattern 0.### the same way as DecimalFormat.",
+                       jsonString,
+                       matchesPattern(".*\"ratio\"\\s*:\\s*\"" + Pattern.quote(ratioFormat.format(value)) + "\".*"));
+        }
+
+        PriceContainer unmarshalledObject = jsonb.fromJson("{ \"amount\" : \"1234.50\", \"ratio\" : \"0.125\" }",
+                                                           PriceContainer.class);
+        assertThat("Failed to parse value using JsonbNumberFormat pattern #0.00.",
+                   unmarshalledObject.getAmount(), is(1234.5));
+        assertThat("Failed to parse value using JsonbNumberFormat pattern 0.###.",
+                   unmarshalledObject.getRatio(), is(0.125));
+    }
+
+    /*
+     * @testName: testNumberFormatConcurrent
+     *
+     * @test_Strategy: Assert that one Jsonb instance formats and parses values
+     * customized by JsonbNumberFormat correctly when used by several threads at
+     * once
+     */
+    @Test
+    public void testNumberFormatConcurrent() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<String>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = thread;
+                tasks.add(() -> {
+                    DecimalFormat amountFormat = new DecimalFormat("#0.00", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        double value = AMOUNTS[(i + offset) % AMOUNTS.length] * (offset + 1);
+                        PriceContainer instance = new PriceContainer();
+                        instance.setAmount(value);
+                        String expected = amountFormat.format(value);
+                        String jsonString = jsonb.toJson(instance);
+                        if (!jsonString.matches(".*\"amount\"\\s*:\\s*\"" + Pattern.quote(expected) + "\".*")) {
+                            return "Expected amount " + expected + " but got " + jsonString;
+                        }
+                        PriceContainer unmarshalledObject = jsonb.fromJson(jsonString, PriceContainer.class);
+                        if (unmarshalledObject.getAmount() != Double.parseDouble(expected)) {
+                            return "Expected amount " + expected + " but got " + unmarshalledObject.getAmount();
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (Future<String> result : executor.invokeAll(tasks)) {
+                String error = result.get();
+                assertThat("Failed to correctly format number using JsonbNumberFormat concurrently: " + error,
+                           error == null, is(true));
+            }
+        } catch (ExecutionException e) {
+            fail(e.getCause());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -26,6 +26,7 @@ import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.JsonbException;
 import jakarta.json.bind.config.PropertyNamingStrategy;
 
+import ee.jakarta.tck.json.bind.customizedmapping.propertynames.model.CountingNamingStrategy;
 import ee.jakarta.tck.json.bind.customizedmapping.propertynames.model.DuplicateNameContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.propertynames.model.PropertyNameCustomizationAccessorsContainer;
 import ee.jakarta.tck.json.bind.customizedmapping.propertynames.model.PropertyNameCustomizationContainer;
@@ -44,8 +45,11 @@ import ee.jakarta.tck.json.bind.customizedmapping.propertynames.model.TransientS
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -480,6 +484,57 @@ public class PropertyNameCustomizationTest {
                    unmarshalledObject.getStringInstance(), is("Test String"));
     }
 
+    /*
+     * @testName: testCaseInsensitivePropertyNamingStrategyMixedCase
+     *
+     * @test_Strategy: Assert that property names differing only in case
+     * are matched during unmarshalling when using PropertyNamingStrategy.CASE_INSENSITIVE
+     */
+    @Test
+    public void testCaseInsensitivePropertyNamingStrategyMixedCase() throws Exception {
+        JsonbConfig config = new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.CASE_INSENSITIVE);
+        try (Jsonb jsonb = JsonbBuilder.create(config)) {
+            for (String name : new String[] {"STRINGINSTANCE", "StringInstance", "stringinstance", "sTrInGiNsTaNcE"}) {
+                StringContainer unmarshalledObject = jsonb.fromJson("{ \"" + name + "\" : \"Test String\" }",
+                                                                    StringContainer.class);
+                assertThat("Failed to correctly unmarshal property " + name
+                                   + " using PropertyNamingStrategy.CASE_INSENSITIVE.",
+                           unmarshalledObject.getStringInstance(), is("Test String"));
+            }
+        }
+    }
+
+    /*
+     * @testName: testPropertyNamingStrategyTranslatedOnce
+     *
+     * @test_Strategy: Assert that custom PropertyNamingStrategy translates
+     * each property name at most once and is not called for names read
+     * from JSON documents
+     */
+    @Test
+    public void testPropertyNamingStrategyTranslatedOnce() throws Exception {
+        CountingNamingStrategy strategy = new CountingNamingStrategy();
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withPropertyNamingStrategy(strategy))) {
+            StringContainer container = new StringContainer();
+            container.setStringInstance("Test String");
+            for (int i = 0; i < 100; i++) {
+                String jsonString = jsonb.toJson(container);
+                assertThat("Failed to correctly marshal property using custom PropertyNamingStrategy.",
+                           jsonString, matchesPattern("\\{\\s*\"x_stringInstance\"\\s*\\:\\s*\"Test String\"\\s*\\}"));
+                StringContainer unmarshalledObject = jsonb.fromJson(
+                        "{ \"unknownProperty\" : 1, \"x_stringInstance\" : \"Test String\" }", StringContainer.class);
+                assertThat("Failed to correctly unmarshal property using custom PropertyNamingStrategy.",
+                           unmarshalledObject.getStringInstance(), is("Test String"));
+            }
+        }
+        assertThat("PropertyNamingStrategy is expected to translate the property name.",
+                   strategy.getTranslations(), hasKey("stringInstance"));
+        assertThat("PropertyNamingStrategy is expected to translate each property name at most once.",
+                   strategy.getTranslations().get("stringInstance").get(), lessThanOrEqualTo(1));
+        assertThat("PropertyNamingStrategy is not expected to be called for names read from JSON.",
+                   strategy.getTranslations(), not(hasKey("unknownProperty")));
+    }
+
     /*
      * @testName: testDuplicateName
      *
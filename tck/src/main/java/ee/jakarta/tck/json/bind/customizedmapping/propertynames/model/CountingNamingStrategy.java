@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.propertynames.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.bind.config.PropertyNamingStrategy;
+
+/**
+ * Naming strategy prefixing the property names, counting the translations of each name.
+ */
+public class CountingNamingStrategy implements PropertyNamingStrategy {
+
+    private final Map<String, AtomicInteger> translations = new ConcurrentHashMap<>();
+
+    @Override
+    public String translateName(String propertyName) {
+        translations.computeIfAbsent(propertyName, name -> new AtomicInteger()).incrementAndGet();
+        return "x_" + propertyName;
+    }
+
+    public Map<String, AtomicInteger> getTranslations() {
+        return translations;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.SampledSeries;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+
+/**
+ * Tests for primitive array methods of {@link jakarta.json.bind.serializer.SerializationContext}
+ * and {@link jakarta.json.bind.serializer.DeserializationContext}.
+ */
+public class PrimitiveArrayContextTest {
+
+    private static final String SERIES_JSON = "{ \"ids\" : [ 1, 2, 3 ], "
+            + "\"timestamps\" : [ 1700000000000, 1700000001000, 1700000002000 ], "
+            + "\"values\" : [ 0.5, -1.25, 3.0 ], "
+            + "\"weights\" : [ 1.5 ] }";
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    /**
+     * Verify that primitive arrays written by {@code SerializationContext.writeArray}
+     * are serialized as JSON arrays.
+     */
+    @Test
+    public void testWriteArray() {
+        String jsonString = jsonb.toJson(series());
+        assertThat("Failed to serialize primitive arrays using SerializationContext.writeArray.",
+                   jsonString, matchesPattern("\\{\\s*\"ids\"\\s*:\\s*\\[\\s*1\\s*,\\s*2\\s*,\\s*3\\s*]\\s*,"
+                                                      + "\\s*\"timestamps\"\\s*:\\s*\\[\\s*1700000000000\\s*,"
+                                                      + "\\s*1700000001000\\s*,\\s*1700000002000\\s*]\\s*,"
+                                                      + "\\s*\"values\"\\s*:\\s*\\[\\s*0\\.5\\s*,\\s*-1\\.25\\s*,\\s*3\\.0\\s*]\\s*,"
+                                                      + "\\s*\"weights\"\\s*:\\s*\\[\\s*1\\.5\\s*]\\s*}"));
+    }
+
+    /**
+     * Verify that JSON arrays are deserialized by {@code DeserializationContext.readIntArray}
+     * and related methods, with and without size hints.
+     */
+    @Test
+    public void testReadArray() {
+        SampledSeries series = jsonb.fromJson(SERIES_JSON, SampledSeries.class);
+        assertThat("Failed to deserialize primitive arrays using DeserializationContext read array methods.",
+                   series, is(series()));
+    }
+
+    /**
+     * Verify that empty JSON arrays are deserialized as empty primitive arrays.
+     */
+    @Test
+    public void testReadEmptyArray() {
+        SampledSeries series = jsonb.fromJson("{ \"ids\" : [], \"timestamps\" : [], \"values\" : [], \"weights\" : [] }",
+                                              SampledSeries.class);
+        SampledSeries expected = new SampledSeries();
+        expected.setIds(new int[0]);
+        expected.setTimestamps(new long[0]);
+        expected.setValues(new double[0]);
+        expected.setWeights(new float[0]);
+        assertThat("Failed to deserialize empty primitive arrays using DeserializationContext read array methods.",
+                   series, is(expected));
+    }
+
+    private static SampledSeries series() {
+        SampledSeries series = new SampledSeries();
+        series.setIds(new int[] {1, 2, 3});
+        series.setTimestamps(new long[] {1_700_000_000_000L, 1_700_000_001_000L, 1_700_000_002_000L});
+        series.setValues(new double[] {0.5, -1.25, 3.0});
+        series.setWeights(new float[] {1.5f});
+        return series;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.PrimitiveContainer;
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer.PrimitiveSerializers;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+
+/**
+ * Tests for primitive specialized serializers and deserializers, such as
+ * {@link jakarta.json.bind.serializer.JsonbIntSerializer}.
+ */
+public class PrimitiveSerializersTest {
+
+    private final PrimitiveSerializers.IntSerializer intSerializer = new PrimitiveSerializers.IntSerializer();
+    private final PrimitiveSerializers.LongSerializer longSerializer = new PrimitiveSerializers.LongSerializer();
+    private final PrimitiveSerializers.DoubleSerializer doubleSerializer = new PrimitiveSerializers.DoubleSerializer();
+    private final PrimitiveSerializers.BooleanSerializer booleanSerializer = new PrimitiveSerializers.BooleanSerializer();
+    private final PrimitiveSerializers.IntDeserializer intDeserializer = new PrimitiveSerializers.IntDeserializer();
+    private final PrimitiveSerializers.LongDeserializer longDeserializer = new PrimitiveSerializers.LongDeserializer();
+    private final PrimitiveSerializers.DoubleDeserializer doubleDeserializer = new PrimitiveSerializers.DoubleDeserializer();
+    private final PrimitiveSerializers.BooleanDeserializer booleanDeserializer = new PrimitiveSerializers.BooleanDeserializer();
+
+    private final Jsonb jsonb = JsonbBuilder.create(new JsonbConfig()
+                                                            .withSerializers(intSerializer, longSerializer,
+                                                                             doubleSerializer, booleanSerializer)
+                                                            .withDeserializers(intDeserializer, longDeserializer,
+                                                                               doubleDeserializer, booleanDeserializer));
+
+    /**
+     * Verify that primitive properties are serialized by the primitive methods of the serializers.
+     */
+    @Test
+    public void testPrimitiveSerialization() {
+        PrimitiveContainer container = new PrimitiveContainer();
+        container.setIntInstance(1);
+        container.setLongInstance(2L);
+        container.setDoubleInstance(0.5);
+        container.setBooleanInstance(true);
+
+        String jsonString = jsonb.toJson(container);
+        assertThat("Failed to serialize primitive properties using primitive serializers.",
+                   jsonString, matchesPattern("\\{\\s*\"booleanInstance\"\\s*:\\s*false\\s*,"
+                                                      + "\\s*\"doubleInstance\"\\s*:\\s*5\\.0\\s*,"
+                                                      + "\\s*\"intInstance\"\\s*:\\s*10\\s*,"
+                                                      + "\\s*\"longInstance\"\\s*:\\s*20\\s*}"));
+        assertThat("Expected int serializer to be called without boxing.", intSerializer.getBoxedCalls(), is(0));
+        assertThat("Expected long serializer to be called without boxing.", longSerializer.getBoxedCalls(), is(0));
+        assertThat("Expected double serializer to be called without boxing.", doubleSerializer.getBoxedCalls(), is(0));
+        assertThat("Expected boolean serializer to be called without boxing.", booleanSerializer.getBoxedCalls(), is(0));
+    }
+
+    /**
+     * Verify that primitive properties are deserialized by the primitive methods of the deserializers.
+     */
+    @Test
+    public void testPrimitiveDeserialization() {
+        PrimitiveContainer container = jsonb.fromJson("{ \"intInstance\" : 10, \"longInstance\" : 20, "
+                                                              + "\"doubleInstance\" : 5.0, \"booleanInstance\" : false }",
+                                                      PrimitiveContainer.class);
+        assertThat("Failed to deserialize int property using primitive deserializer.", container.getIntInstance(), is(1));
+        assertThat("Failed to deserialize long property using primitive deserializer.", container.getLongInstance(), is(2L));
+        assertThat("Failed to deserialize double property using primitive deserializer.",
+                   container.getDoubleInstance(), is(0.5));
+        assertThat("Failed to deserialize boolean property using primitive deserializer.",
+                   container.isBooleanInstance(), is(true));
+        assertThat("Expected int deserializer to be called without boxing.", intDeserializer.getBoxedCalls(), is(0));
+        assertThat("Expected long deserializer to be called without boxing.", longDeserializer.getBoxedCalls(), is(0));
+        assertThat("Expected double deserializer to be called without boxing.", doubleDeserializer.getBoxedCalls(), is(0));
+        assertThat("Expected boolean deserializer to be called without boxing.", booleanDeserializer.getBoxedCalls(), is(0));
+    }
+
+    /**
+     * Verify that elements of primitive arrays are processed by the primitive methods.
+     */
+    @Test
+    public void testPrimitiveArray() {
+        String jsonString = jsonb.toJson(new int[] {1, 2, 3});
+        assertThat("Failed to serialize int array elements using primitive serializer.",
+                   jsonString, matchesPattern("\\[\\s*10\\s*,\\s*20\\s*,\\s*30\\s*]"));
+        assertThat("Expected int serializer to be called for each element.", intSerializer.getPrimitiveCalls(), is(3));
+        assertThat("Expected int serializer to be called without boxing.", intSerializer.getBoxedCalls(), is(0));
+
+        int[] array = jsonb.fromJson("[10, 20, 30]", int[].class);
+        assertThat("Failed to deserialize int array elements using primitive deserializer.",
+                   new Integer[] {array[0], array[1], array[2]}, arrayContaining(1, 2, 3));
+        assertThat("Expected int deserializer to be called for each element.", intDeserializer.getPrimitiveCalls(), is(3));
+        assertThat("Expected int deserializer to be called without boxing.", intDeserializer.getBoxedCalls(), is(0));
+    }
+
+    /**
+     * Verify that values of a wrapper type are processed by the boxed methods.
+     */
+    @Test
+    public void testBoxedProperty() {
+        PrimitiveContainer container = new PrimitiveContainer();
+        container.setBoxedInstance(3);
+
+        String jsonString = jsonb.toJson(container);
+        assertThat("Failed to serialize Integer property using primitive serializer.",
+                   jsonString, matchesPattern(".*\"boxedInstance\"\\s*:\\s*30.*"));
+        assertThat("Expected boxed method to be called for Integer property.", intSerializer.getBoxedCalls(), is(1));
+
+        PrimitiveContainer deserialized = jsonb.fromJson("{ \"boxedInstance\" : 30 }", PrimitiveContainer.class);
+        assertThat("Failed to deserialize Integer property using primitive deserializer.",
+                   deserialized.getBoxedInstance(), is(3));
+        assertThat("Expected boxed method to be called for Integer property.", intDeserializer.getBoxedCalls(), is(1));
+    }
+}
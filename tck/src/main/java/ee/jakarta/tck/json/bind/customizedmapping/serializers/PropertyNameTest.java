@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.serializer.JsonbPropertyName;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.LabeledPoint;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+
+/**
+ * Tests for {@link JsonbPropertyName} written by {@link jakarta.json.bind.serializer.SerializationContext}.
+ */
+public class PropertyNameTest {
+
+    private static final String POINT_PATTERN = "\\{\\s*\"x\"\\s*:\\s*%d\\s*,\\s*\"y\"\\s*:\\s*%d\\s*,"
+            + "\\s*\"point \\\\\"label\\\\\"\"\\s*:\\s*\"%s\"\\s*}";
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    /**
+     * Verify that property names created once are written by {@code SerializationContext.serialize}
+     * and {@code SerializationContext.writeKey} as if they were passed as strings.
+     */
+    @Test
+    public void testSerializePropertyName() {
+        String jsonString = jsonb.toJson(new LabeledPoint(1, -2, "origin"));
+        assertThat("Failed to serialize property names using JsonbPropertyName.",
+                   jsonString, matchesPattern(String.format(POINT_PATTERN, 1, -2, "origin")));
+    }
+
+    /**
+     * Verify that property names created once are written repeatedly by the same serializer.
+     */
+    @Test
+    public void testSerializePropertyNameRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            String jsonString = jsonb.toJson(new LabeledPoint(i, i + 1, "point " + i));
+            assertThat("Failed to serialize property names using JsonbPropertyName repeatedly.",
+                       jsonString, matchesPattern(String.format(POINT_PATTERN, i, i + 1, "point " + i)));
+        }
+    }
+
+    /**
+     * Verify escaped and UTF-8 encoded forms of {@link JsonbPropertyName}.
+     */
+    @Test
+    public void testPropertyNameForms() {
+        JsonbPropertyName name = JsonbPropertyName.of("a\"b\\c\n\u0001é");
+        String escaped = "a\\\"b\\\\c\\n\\u0001é";
+        assertThat("Unexpected property name.", name.getName(), is("a\"b\\c\n\u0001é"));
+        assertThat("Unexpected escaped property name.", name.getEscapedName(), is(escaped));
+        byte[] utf8 = escaped.getBytes(StandardCharsets.UTF_8);
+        assertThat("Unexpected UTF-8 form of the property name.", name.toEscapedUtf8(), is(utf8));
+        assertThat("Unexpected length of the UTF-8 form of the property name.", name.getEscapedUtf8Length(),
+                   is(utf8.length));
+        byte[] destination = new byte[utf8.length + 2];
+        assertThat("Unexpected number of copied bytes.", name.copyEscapedUtf8(destination, 1), is(utf8.length));
+        assertThat("Unexpected copied bytes.", Arrays.copyOfRange(destination, 1, utf8.length + 1), is(utf8));
+        assertThat("Property names are expected to be equal by their name.", name,
+                   is(JsonbPropertyName.of("a\"b\\c\n\u0001é")));
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.EmbeddedDocument;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+
+/**
+ * Tests for text streaming methods of {@link jakarta.json.bind.serializer.SerializationContext}
+ * and {@link jakarta.json.bind.serializer.DeserializationContext}.
+ */
+public class TextContextTest {
+
+    private static final String BODY = "name,quote\n\"a\",\"back\\slash\"\n";
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    /**
+     * Verify that text written by {@code SerializationContext.writeText} is serialized
+     * as an escaped JSON string.
+     */
+    @Test
+    public void testWriteText() {
+        String jsonString = jsonb.toJson(document());
+        assertThat("Failed to serialize text using SerializationContext.writeText.",
+                   jsonString, matchesPattern("\\{\\s*\"mediaType\"\\s*:\\s*\"text/csv\"\\s*,"
+                                                      + "\\s*\"body\"\\s*:\\s*\"name,quote\\\\n\\\\\"a\\\\\","
+                                                      + "\\\\\"back\\\\\\\\slash\\\\\"\\\\n\"\\s*}"));
+    }
+
+    /**
+     * Verify that a JSON string is unescaped and written to the provided sink
+     * by {@code DeserializationContext.readText}.
+     */
+    @Test
+    public void testReadText() {
+        EmbeddedDocument document = jsonb.fromJson(jsonb.toJson(document()), EmbeddedDocument.class);
+        assertThat("Failed to deserialize text using DeserializationContext.readText.",
+                   document.getBody(), is(BODY));
+        assertThat("Failed to return number of characters written by DeserializationContext.readText.",
+                   document.getLength(), is((long) BODY.length()));
+    }
+
+    private static EmbeddedDocument document() {
+        EmbeddedDocument document = new EmbeddedDocument();
+        document.setMediaType("text/csv");
+        document.setBody(BODY);
+        return document;
+    }
+}
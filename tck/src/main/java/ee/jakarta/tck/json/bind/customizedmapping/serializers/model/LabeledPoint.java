@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers.model;
+
+import jakarta.json.bind.annotation.JsonbTypeSerializer;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer.LabeledPointSerializer;
+
+@JsonbTypeSerializer(LabeledPointSerializer.class)
+public class LabeledPoint {
+
+    private int x;
+
+    private int y;
+
+    private String label;
+
+    public LabeledPoint() {
+    }
+
+    public LabeledPoint(int x, int y, String label) {
+        this.x = x;
+        this.y = y;
+        this.label = label;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public void setX(int x) {
+        this.x = x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public void setY(int y) {
+        this.y = y;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers.model;
+
+public class PrimitiveContainer {
+
+    private int intInstance;
+
+    private long longInstance;
+
+    private double doubleInstance;
+
+    private boolean booleanInstance;
+
+    private int[] intArray;
+
+    private Integer boxedInstance;
+
+    public int getIntInstance() {
+        return intInstance;
+    }
+
+    public void setIntInstance(int intInstance) {
+        this.intInstance = intInstance;
+    }
+
+    public long getLongInstance() {
+        return longInstance;
+    }
+
+    public void setLongInstance(long longInstance) {
+        this.longInstance = longInstance;
+    }
+
+    public double getDoubleInstance() {
+        return doubleInstance;
+    }
+
+    public void setDoubleInstance(double doubleInstance) {
+        this.doubleInstance = doubleInstance;
+    }
+
+    public boolean isBooleanInstance() {
+        return booleanInstance;
+    }
+
+    public void setBooleanInstance(boolean booleanInstance) {
+        this.booleanInstance = booleanInstance;
+    }
+
+    public int[] getIntArray() {
+        return intArray;
+    }
+
+    public void setIntArray(int[] intArray) {
+        this.intArray = intArray;
+    }
+
+    public Integer getBoxedInstance() {
+        return boxedInstance;
+    }
+
+    public void setBoxedInstance(Integer boxedInstance) {
+        this.boxedInstance = boxedInstance;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers.model;
+
+import java.util.Arrays;
+
+import jakarta.json.bind.annotation.JsonbTypeDeserializer;
+import jakarta.json.bind.annotation.JsonbTypeSerializer;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer.SampledSeriesDeserializer;
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer.SampledSeriesSerializer;
+
+@JsonbTypeSerializer(SampledSeriesSerializer.class)
+@JsonbTypeDeserializer(SampledSeriesDeserializer.class)
+public class SampledSeries {
+
+    private int[] ids;
+
+    private long[] timestamps;
+
+    private double[] values;
+
+    private float[] weights;
+
+    public int[] getIds() {
+        return ids;
+    }
+
+    public void setIds(int[] ids) {
+        this.ids = ids;
+    }
+
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    public void setTimestamps(long[] timestamps) {
+        this.timestamps = timestamps;
+    }
+
+    public double[] getValues() {
+        return values;
+    }
+
+    public void setValues(double[] values) {
+        this.values = values;
+    }
+
+    public float[] getWeights() {
+        return weights;
+    }
+
+    public void setWeights(float[] weights) {
+        this.weights = weights;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SampledSeries)) {
+            return false;
+        }
+        SampledSeries that = (SampledSeries) o;
+        return Arrays.equals(ids, that.ids)
+                && Arrays.equals(timestamps, that.timestamps)
+                && Arrays.equals(values, that.values)
+                && Arrays.equals(weights, that.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(ids);
+        result = 31 * result + Arrays.hashCode(timestamps);
+        result = 31 * result + Arrays.hashCode(values);
+        return 31 * result + Arrays.hashCode(weights);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer;
+
+import java.io.StringWriter;
+import java.lang.reflect.Type;
+
+import jakarta.json.bind.serializer.DeserializationContext;
+import jakarta.json.bind.serializer.JsonbDeserializer;
+import jakarta.json.stream.JsonParser;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.EmbeddedDocument;
+
+public class EmbeddedDocumentDeserializer implements JsonbDeserializer<EmbeddedDocument> {
+
+    @Override
+    public EmbeddedDocument deserialize(JsonParser jsonParser, DeserializationContext ctx, Type type) {
+        EmbeddedDocument document = new EmbeddedDocument();
+        while (jsonParser.hasNext()) {
+            JsonParser.Event event = jsonParser.next();
+            if (event == JsonParser.Event.END_OBJECT) {
+                break;
+            }
+            if (event == JsonParser.Event.KEY_NAME) {
+                switch (jsonParser.getString()) {
+                case "mediaType":
+                    jsonParser.next();
+                    document.setMediaType(jsonParser.getString());
+                    break;
+                case "body":
+                    StringWriter sink = new StringWriter();
+                    document.setLength(ctx.readText(jsonParser, sink));
+                    document.setBody(sink.toString());
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected property: " + jsonParser.getString());
+                }
+            }
+        }
+        return document;
+    }
+}
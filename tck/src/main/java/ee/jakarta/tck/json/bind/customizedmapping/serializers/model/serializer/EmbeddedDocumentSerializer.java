@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer;
+
+import java.io.StringReader;
+
+import jakarta.json.bind.serializer.JsonbSerializer;
+import jakarta.json.bind.serializer.SerializationContext;
+import jakarta.json.stream.JsonGenerator;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.EmbeddedDocument;
+
+public class EmbeddedDocumentSerializer implements JsonbSerializer<EmbeddedDocument> {
+
+    @Override
+    public void serialize(EmbeddedDocument document, JsonGenerator generator, SerializationContext ctx) {
+        generator.writeStartObject();
+        generator.write("mediaType", document.getMediaType());
+        ctx.writeText("body", new StringReader(document.getBody()), generator);
+        generator.writeEnd();
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer;
+
+import java.lang.reflect.Type;
+
+import jakarta.json.JsonValue;
+import jakarta.json.bind.serializer.DeserializationContext;
+import jakarta.json.bind.serializer.JsonbBooleanDeserializer;
+import jakarta.json.bind.serializer.JsonbBooleanSerializer;
+import jakarta.json.bind.serializer.JsonbDoubleDeserializer;
+import jakarta.json.bind.serializer.JsonbDoubleSerializer;
+import jakarta.json.bind.serializer.JsonbIntDeserializer;
+import jakarta.json.bind.serializer.JsonbIntSerializer;
+import jakarta.json.bind.serializer.JsonbLongDeserializer;
+import jakarta.json.bind.serializer.JsonbLongSerializer;
+import jakarta.json.bind.serializer.SerializationContext;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Primitive serializers and deserializers multiplying numbers by ten and negating booleans,
+ * counting calls of the primitive and of the boxed methods.
+ */
+public final class PrimitiveSerializers {
+
+    private PrimitiveSerializers() {
+    }
+
+    public abstract static class Counting {
+
+        int primitiveCalls;
+
+        int boxedCalls;
+
+        public int getPrimitiveCalls() {
+            return primitiveCalls;
+        }
+
+        public int getBoxedCalls() {
+            return boxedCalls;
+        }
+    }
+
+    public static class IntSerializer extends Counting implements JsonbIntSerializer {
+
+        @Override
+        public void serializeInt(int value, JsonGenerator generator, SerializationContext ctx) {
+            primitiveCalls++;
+            generator.write(value * 10);
+        }
+
+        @Override
+        public void serialize(Integer obj, JsonGenerator generator, SerializationContext ctx) {
+            boxedCalls++;
+            generator.write(obj * 10);
+        }
+    }
+
+    public static class IntDeserializer extends Counting implements JsonbIntDeserializer {
+
+        @Override
+        public int deserializeInt(JsonParser parser, DeserializationContext ctx) {
+            primitiveCalls++;
+            return parser.getInt() / 10;
+        }
+
+        @Override
+        public Integer deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+            boxedCalls++;
+            return parser.getInt() / 10;
+        }
+    }
+
+    public static class LongSerializer extends Counting implements JsonbLongSerializer {
+
+        @Override
+        public void serializeLong(long value, JsonGenerator generator, SerializationContext ctx) {
+            primitiveCalls++;
+            generator.write(value * 10);
+        }
+
+        @Override
+        public void serialize(Long obj, JsonGenerator generator, SerializationContext ctx) {
+            boxedCalls++;
+            generator.write(obj * 10);
+        }
+    }
+
+    public static class LongDeserializer extends Counting implements JsonbLongDeserializer {
+
+        @Override
+        public long deserializeLong(JsonParser parser, DeserializationContext ctx) {
+            primitiveCalls++;
+            return parser.getLong() / 10;
+        }
+
+        @Override
+        public Long deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+            boxedCalls++;
+            return parser.getLong() / 10;
+        }
+    }
+
+    public static class DoubleSerializer extends Counting implements JsonbDoubleSerializer {
+
+        @Override
+        public void serializeDouble(double value, JsonGenerator generator, SerializationContext ctx) {
+            primitiveCalls++;
+            generator.write(value * 10);
+        }
+
+        @Override
+        public void serialize(Double obj, JsonGenerator generator, SerializationContext ctx) {
+            boxedCalls++;
+            generator.write(obj * 10);
+        }
+    }
+
+    public static class DoubleDeserializer extends Counting implements JsonbDoubleDeserializer {
+
+        @Override
+        public double deserializeDouble(JsonParser parser, DeserializationContext ctx) {
+            primitiveCalls++;
+            return parser.getBigDecimal().doubleValue() / 10;
+        }
+
+        @Override
+        public Double deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+            boxedCalls++;
+            return parser.getBigDecimal().doubleValue() / 10;
+        }
+    }
+
+    public static class BooleanSerializer extends Counting implements JsonbBooleanSerializer {
+
+        @Override
+        public void serializeBoolean(boolean value, JsonGenerator generator, SerializationContext ctx) {
+            primitiveCalls++;
+            generator.write(!value);
+        }
+
+        @Override
+        public void serialize(Boolean obj, JsonGenerator generator, SerializationContext ctx) {
+            boxedCalls++;
+            generator.write(!obj);
+        }
+    }
+
+    public static class BooleanDeserializer extends Counting implements JsonbBooleanDeserializer {
+
+        @Override
+        public boolean deserializeBoolean(JsonParser parser, DeserializationContext ctx) {
+            primitiveCalls++;
+            return JsonValue.FALSE.equals(parser.getValue());
+        }
+
+        @Override
+        public Boolean deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+            boxedCalls++;
+            return JsonValue.FALSE.equals(parser.getValue());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer;
+
+import java.lang.reflect.Type;
+
+import jakarta.json.bind.serializer.DeserializationContext;
+import jakarta.json.bind.serializer.JsonbDeserializer;
+import jakarta.json.stream.JsonParser;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.SampledSeries;
+
+public class SampledSeriesDeserializer implements JsonbDeserializer<SampledSeries> {
+
+    @Override
+    public SampledSeries deserialize(JsonParser jsonParser, DeserializationContext ctx, Type type) {
+        SampledSeries series = new SampledSeries();
+        while (jsonParser.hasNext()) {
+            JsonParser.Event event = jsonParser.next();
+            if (event == JsonParser.Event.END_OBJECT) {
+                break;
+            }
+            if (event == JsonParser.Event.KEY_NAME) {
+                switch (jsonParser.getString()) {
+                case "ids":
+                    series.setIds(ctx.readIntArray(jsonParser));
+                    break;
+                case "timestamps":
+                    series.setTimestamps(ctx.readLongArray(jsonParser, 3));
+                    break;
+                case "values":
+                    series.setValues(ctx.readDoubleArray(jsonParser));
+                    break;
+                case "weights":
+                    series.setWeights(ctx.readFloatArray(jsonParser, 1));
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected property: " + jsonParser.getString());
+                }
+            }
+        }
+        return series;
+    }
+}
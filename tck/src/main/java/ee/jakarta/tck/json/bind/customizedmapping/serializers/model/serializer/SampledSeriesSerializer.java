@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.customizedmapping.serializers.model.serializer;
+
+import jakarta.json.bind.serializer.JsonbSerializer;
+import jakarta.json.bind.serializer.SerializationContext;
+import jakarta.json.stream.JsonGenerator;
+
+import ee.jakarta.tck.json.bind.customizedmapping.serializers.model.SampledSeries;
+
+public class SampledSeriesSerializer implements JsonbSerializer<SampledSeries> {
+
+    @Override
+    public void serialize(SampledSeries series, JsonGenerator generator, SerializationContext ctx) {
+        generator.writeStartObject();
+        ctx.writeArray("ids", series.getIds(), generator);
+        ctx.writeArray("timestamps", series.getTimestamps(), generator);
+        ctx.writeArray("values", series.getValues(), generator);
+        ctx.writeArray("weights", series.getWeights(), generator);
+        generator.writeEnd();
+    }
+}
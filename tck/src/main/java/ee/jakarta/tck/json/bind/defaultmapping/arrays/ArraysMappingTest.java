@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,6 +20,8 @@
 
 package ee.jakarta.tck.json.bind.defaultmapping.arrays;
 
+import java.util.stream.LongStream;
+
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
 
@@ -95,4 +97,21 @@ public class ArraysMappingTest {
         MultiDimensionalArrayContainer unmarshalledObject = jsonb.fromJson(toDeserialize, MultiDimensionalArrayContainer.class);
         assertThat("Failed to unmarshal object with int[][] attribute value.", unmarshalledObject.getInstance(), is(instance));
     }
+
+    /*
+     * @testName: testLargePrimitiveArrays
+     *
+     * @test_Strategy: Assert that large arrays of primitives of unknown size
+     * are deserialized completely and in order
+     */
+    @Test
+    public void testLargePrimitiveArrays() {
+        long[] longs = LongStream.range(0, 100_000).map(i -> i * 31).toArray();
+        assertThat("Failed to round trip large long[] value.",
+                   jsonb.fromJson(jsonb.toJson(longs), long[].class), is(longs));
+
+        double[] doubles = LongStream.range(0, 100_000).mapToDouble(i -> i / 8.0).toArray();
+        assertThat("Failed to round trip large double[] value.",
+                   jsonb.fromJson(jsonb.toJson(doubles), double[].class), is(doubles));
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,10 +20,29 @@
 
 package ee.jakarta.tck.json.bind.defaultmapping.enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+
+import ee.jakarta.tck.json.bind.defaultmapping.enums.model.DuplicateEnumValueContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.enums.model.EnumContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.enums.model.MisplacedEnumValueContainer;
 import ee.jakarta.tck.json.bind.MappingTester;
+import ee.jakarta.tck.json.bind.defaultmapping.enums.model.Status;
+import ee.jakarta.tck.json.bind.defaultmapping.enums.model.StatusContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.enums.model.StatusMapContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.enums.model.StatusSetContainer;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 /**
  * @test
  * @sources EnumMappingTest.java
@@ -45,4 +64,144 @@ public class EnumMappingTest {
         enumMappingTester.test(EnumContainer.Enumeration.ONE, "\"ONE\"");
         enumMappingTester.test(EnumContainer.Enumeration.TWO, "\"TWO\"");
     }
+
+    /*
+     * @testName: testUnknownEnumValue
+     *
+     * @test_Strategy: Assert that JsonbException is thrown when JSON value
+     * is not the name of any enum constant
+     */
+    @Test
+    public void testUnknownEnumValue() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            assertThrows(JsonbException.class,
+                         () -> jsonb.fromJson("{ \"instance\" : \"THREE\" }", EnumContainer.class));
+            assertThrows(JsonbException.class,
+                         () -> jsonb.fromJson("{ \"instance\" : \"one\" }", EnumContainer.class));
+        }
+    }
+
+    /*
+     * @testName: testEnumValueCustomization
+     *
+     * @test_Strategy: Assert that enum constants annotated with JsonbEnumValue
+     * or JsonbProperty are serialized and deserialized as the annotation value
+     * and constants without annotation as their names
+     */
+    @Test
+    public void testEnumValueCustomization() {
+        MappingTester<Status> enumMappingTester = new MappingTester<>(StatusContainer.class);
+        enumMappingTester.test(Status.ACTIVE, "\"active\"");
+        enumMappingTester.test(Status.INACTIVE, "\"inactive\"");
+        enumMappingTester.test(Status.UNKNOWN, "\"UNKNOWN\"");
+    }
+
+    /*
+     * @testName: testEnumValueAliases
+     *
+     * @test_Strategy: Assert that aliases of JsonbEnumValue are accepted during
+     * deserialization and that the name of a customized constant is accepted
+     * only if it is one of the aliases
+     */
+    @Test
+    public void testEnumValueAliases() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            assertThat("Failed to deserialize enum constant using JsonbEnumValue alias.",
+                       jsonb.fromJson("{ \"instance\" : \"enabled\" }", StatusContainer.class).getInstance(),
+                       is(Status.ACTIVE));
+            assertThat("Failed to deserialize enum constant using its name listed as JsonbEnumValue alias.",
+                       jsonb.fromJson("{ \"instance\" : \"ACTIVE\" }", StatusContainer.class).getInstance(),
+                       is(Status.ACTIVE));
+            assertThrows(JsonbException.class,
+                         () -> jsonb.fromJson("{ \"instance\" : \"INACTIVE\" }", StatusContainer.class),
+                         "Name of the enum constant customized by JsonbProperty is not expected to be accepted.");
+        }
+    }
+
+    /*
+     * @testName: testDuplicateEnumValue
+     *
+     * @test_Strategy: Assert that JsonbException is thrown when the same JSON
+     * value is defined for more than one enum constant
+     */
+    @Test
+    public void testDuplicateEnumValue() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            assertThrows(JsonbException.class, () -> jsonb.toJson(new DuplicateEnumValueContainer()));
+            assertThrows(JsonbException.class,
+                         () -> jsonb.fromJson("{ \"instance\" : \"low\" }", DuplicateEnumValueContainer.class));
+        }
+    }
+
+    /*
+     * @testName: testEnumValueOnNonConstantField
+     *
+     * @test_Strategy: Assert that JsonbEnumValue placed on fields which are not
+     * enum constants, including a field of an enum type, is ignored
+     */
+    @Test
+    public void testEnumValueOnNonConstantField() throws Exception {
+        MisplacedEnumValueContainer container = new MisplacedEnumValueContainer();
+        container.setLabel("label");
+        container.setStatus(Status.UNKNOWN);
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            assertThat("JsonbEnumValue on a field which is not an enum constant is expected to be ignored.",
+                       jsonb.toJson(container),
+                       matchesPattern("\\{\\s*\"label\"\\s*:\\s*\"label\"\\s*,"
+                                              + "\\s*\"status\"\\s*:\\s*\"UNKNOWN\"\\s*}"));
+
+            MisplacedEnumValueContainer unmarshalled = jsonb.fromJson(
+                    "{ \"label\" : \"value\", \"status\" : \"active\" }", MisplacedEnumValueContainer.class);
+            assertThat("JsonbEnumValue on a field which is not an enum constant is expected to be ignored.",
+                       unmarshalled.getLabel(), is("value"));
+            assertThat("Enum constant customization is expected to apply to a field annotated with JsonbEnumValue.",
+                       unmarshalled.getStatus(), is(Status.ACTIVE));
+        }
+    }
+
+    /*
+     * @testName: testEnumSet
+     *
+     * @test_Strategy: Assert that java.util.EnumSet is serialized as JSON array
+     * of customized enum values in the order of ordinal numbers and deserialized
+     * into EnumSet
+     */
+    @Test
+    public void testEnumSet() throws Exception {
+        new MappingTester<>(StatusSetContainer.class)
+                .setMarshallExpectedRegExp("\\[\\s*\"active\"\\s*,\\s*\"UNKNOWN\"\\s*]")
+                .test(EnumSet.of(Status.UNKNOWN, Status.ACTIVE), "[\"active\",\"UNKNOWN\"]");
+
+        StatusSetContainer container;
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            container = jsonb.fromJson("{ \"instance\" : [\"UNKNOWN\", \"enabled\"] }",
+                                       StatusSetContainer.class);
+        }
+        assertThat("Failed to deserialize EnumSet.", container.getInstance(), instanceOf(EnumSet.class));
+        assertThat("Failed to deserialize EnumSet.", container.getInstance(), is(EnumSet.of(Status.ACTIVE, Status.UNKNOWN)));
+    }
+
+    /*
+     * @testName: testEnumMap
+     *
+     * @test_Strategy: Assert that java.util.EnumMap is serialized as JSON object
+     * with properties named by customized enum values in the order of ordinal
+     * numbers and deserialized into EnumMap
+     */
+    @Test
+    public void testEnumMap() throws Exception {
+        EnumMap<Status, Integer> map = new EnumMap<>(Status.class);
+        map.put(Status.UNKNOWN, 3);
+        map.put(Status.ACTIVE, 1);
+        new MappingTester<>(StatusMapContainer.class)
+                .setMarshallExpectedRegExp("\\{\\s*\"active\"\\s*:\\s*1\\s*,\\s*\"UNKNOWN\"\\s*:\\s*3\\s*}")
+                .test(map, "{\"active\":1,\"UNKNOWN\":3}");
+
+        StatusMapContainer container;
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            container = jsonb.fromJson("{ \"instance\" : { \"inactive\" : 2 } }", StatusMapContainer.class);
+        }
+        assertThat("Failed to deserialize EnumMap.", container.getInstance(), instanceOf(EnumMap.class));
+        assertThat("Failed to deserialize EnumMap.", container.getInstance().get(Status.INACTIVE), is(2));
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.defaultmapping.polymorphictypes;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbSubtype;
+import jakarta.json.bind.annotation.JsonbTypeInfo;
+import jakarta.json.bind.config.PropertyNamingStrategy;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for verification of subtypes and aliases derived from the permitted subclasses of sealed types.
+ */
+public class SealedTypeInfoTest {
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    @Test
+    public void testSerializeSealedSubtypes() {
+        assertThat("Failed to serialize Created record correctly.",
+                   jsonb.toJson(new Created("a")),
+                   matchesPattern("\\{\\s*\"@event\"\\s*:\\s*\"Created\"\\s*,\\s*\"id\"\\s*:\\s*\"a\"\\s*\\}"));
+        assertThat("Failed to serialize Deleted class correctly.",
+                   jsonb.toJson(new Deleted()),
+                   matchesPattern("\\{\\s*\"@event\"\\s*:\\s*\"Deleted\"\\s*,"
+                                          + "\\s*\"reason\"\\s*:\\s*\"expired\"\\s*\\}"));
+    }
+
+    @Test
+    public void testDeserializeSealedSubtypes() {
+        Event created = jsonb.fromJson("{\"@event\":\"Created\",\"id\":\"a\"}", Event.class);
+        assertThat("Incorrectly deserialized Created record.",
+                   created, is(new Created("a")));
+        Event deleted = jsonb.fromJson("{\"@event\":\"Deleted\",\"reason\":\"manual\"}", Event.class);
+        assertThat("Incorrectly deserialized to the type. Expected was Deleted instance. Got instance of class "
+                           + deleted.getClass(),
+                   deleted, instanceOf(Deleted.class));
+        assertThat("Incorrectly deserialized field of the Deleted instance. Field \"reason\" should have been manual.",
+                   ((Deleted) deleted).reason, is("manual"));
+    }
+
+    @Test
+    public void testNestedSealedSubtypes() {
+        assertThat("Failed to serialize Incoming record of the nested sealed type correctly.",
+                   jsonb.toJson(new Incoming(10)),
+                   matchesPattern("\\{\\s*\"@event\"\\s*:\\s*\"Incoming\"\\s*,\\s*\"amount\"\\s*:\\s*10\\s*\\}"));
+        assertThat("Incorrectly deserialized Outgoing record of the nested sealed type.",
+                   jsonb.fromJson("{\"@event\":\"Outgoing\",\"amount\":5}", Event.class), is(new Outgoing(5)));
+    }
+
+    @Test
+    public void testAliasNaming() {
+        assertThat("Failed to serialize CardPayment record with the alias translated by the alias naming.",
+                   jsonb.toJson(new CardPayment("1234")),
+                   matchesPattern("\\{\\s*\"@type\"\\s*:\\s*\"card-payment\"\\s*,"
+                                          + "\\s*\"card\"\\s*:\\s*\"1234\"\\s*\\}"));
+        assertThat("Incorrectly deserialized BankTransfer record with the alias translated by the alias naming.",
+                   jsonb.fromJson("{\"@type\":\"bank-transfer\",\"iban\":\"CZ00\"}", Payment.class),
+                   is(new BankTransfer("CZ00")));
+    }
+
+    @Test
+    public void testExplicitSubtypesOnSealedType() {
+        assertThat("Failed to serialize Circle record with the explicitly specified alias.",
+                   jsonb.toJson(new Circle(1)),
+                   matchesPattern("\\{\\s*\"@shape\"\\s*:\\s*\"round\"\\s*,\\s*\"radius\"\\s*:\\s*1\\s*\\}"));
+        assertThrows(JsonbException.class, () -> jsonb.fromJson("{\"@shape\":\"Circle\",\"radius\":1}", Shape.class),
+                     "Deserialization should have failed since only the explicitly specified aliases are allowed.");
+    }
+
+    @Test
+    public void testDuplicateDerivedAlias() {
+        assertThrows(JsonbException.class, () -> jsonb.toJson(new First.Item()),
+                     "Serialization should have failed since two derived subtypes have the same alias.");
+    }
+
+    @Test
+    public void testCaseInsensitiveAliasNaming() {
+        assertThrows(JsonbException.class, () -> jsonb.toJson(new CaseInsensitiveItem()),
+                     "Serialization should have failed since CASE_INSENSITIVE is not allowed as alias naming.");
+        assertThrows(JsonbException.class, () -> jsonb.fromJson("{\"@type\":\"caseInsensitiveItem\"}",
+                                                                CaseInsensitive.class),
+                     "Deserialization should have failed since CASE_INSENSITIVE is not allowed as alias naming.");
+    }
+
+    @Test
+    public void testUnknownAliasNaming() {
+        assertThrows(JsonbException.class, () -> jsonb.toJson(new UnknownNamingItem()),
+                     "Serialization should have failed since the alias naming is not a known strategy.");
+        assertThrows(JsonbException.class, () -> jsonb.fromJson("{\"@type\":\"UnknownNamingItem\"}",
+                                                                UnknownNaming.class),
+                     "Deserialization should have failed since the alias naming is not a known strategy.");
+    }
+
+    @Test
+    public void testInvalidAliasNamingWithExplicitSubtypes() {
+        assertThat("Failed to serialize Triangle record with the explicitly specified alias.",
+                   jsonb.toJson(new Triangle(3)),
+                   matchesPattern("\\{\\s*\"@type\"\\s*:\\s*\"triangle\"\\s*,\\s*\"base\"\\s*:\\s*3\\s*\\}"));
+        assertThat("Incorrectly deserialized Triangle record with the explicitly specified alias.",
+                   jsonb.fromJson("{\"@type\":\"triangle\",\"base\":3}", Polygon.class), is(new Triangle(3)));
+    }
+
+    //--------------
+
+    @JsonbTypeInfo(key = "@event")
+    public sealed interface Event permits Created, Deleted, Transfer { }
+
+    public record Created(String id) implements Event { }
+
+    public static final class Deleted implements Event {
+        public String reason = "expired";
+    }
+
+    public sealed interface Transfer extends Event permits Incoming, Outgoing { }
+
+    public record Incoming(int amount) implements Transfer { }
+
+    public record Outgoing(int amount) implements Transfer { }
+
+    //--------------
+
+    @JsonbTypeInfo(aliasNaming = PropertyNamingStrategy.LOWER_CASE_WITH_DASHES)
+    public sealed interface Payment permits CardPayment, BankTransfer { }
+
+    public record CardPayment(String card) implements Payment { }
+
+    public record BankTransfer(String iban) implements Payment { }
+
+    //--------------
+
+    @JsonbTypeInfo(key = "@shape", value = {
+            @JsonbSubtype(alias = "round", type = Circle.class)
+    })
+    public sealed interface Shape permits Circle { }
+
+    public record Circle(int radius) implements Shape { }
+
+    //--------------
+
+    @JsonbTypeInfo
+    public sealed interface Duplicate permits First.Item, Second.Item { }
+
+    public static final class First {
+        public record Item() implements Duplicate { }
+    }
+
+    public static final class Second {
+        public record Item() implements Duplicate { }
+    }
+
+    //--------------
+
+    @JsonbTypeInfo(aliasNaming = PropertyNamingStrategy.CASE_INSENSITIVE)
+    public sealed interface CaseInsensitive permits CaseInsensitiveItem { }
+
+    public record CaseInsensitiveItem() implements CaseInsensitive { }
+
+    //--------------
+
+    @JsonbTypeInfo(aliasNaming = "UNKNOWN_NAMING")
+    public sealed interface UnknownNaming permits UnknownNamingItem { }
+
+    public record UnknownNamingItem() implements UnknownNaming { }
+
+    //--------------
+
+    @JsonbTypeInfo(aliasNaming = "UNKNOWN_NAMING", value = {
+            @JsonbSubtype(alias = "triangle", type = Triangle.class)
+    })
+    public sealed interface Polygon permits Triangle { }
+
+    public record Triangle(int base) implements Polygon { }
+}
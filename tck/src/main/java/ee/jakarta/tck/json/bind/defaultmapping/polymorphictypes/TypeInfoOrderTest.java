@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+
+package ee.jakarta.tck.json.bind.defaultmapping.polymorphictypes;
+
+import java.util.List;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbSubtype;
+import jakarta.json.bind.annotation.JsonbTypeInfo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for verification of the order of type information keys and of buffering of properties preceding them.
+ */
+public class TypeInfoOrderTest {
+
+    private static final String KEYS_FIRST = "{\"@machine\":\"vehicle\",\"@vehicle\":\"car\","
+            + "\"machineProperty\":\"m\",\"vehicleProperty\":\"v\",\"carProperty\":\"c\"}";
+
+    private static final String ONE_PROPERTY_BEFORE_KEY = "{\"@machine\":\"vehicle\",\"machineProperty\":\"m\","
+            + "\"@vehicle\":\"car\",\"vehicleProperty\":\"v\",\"carProperty\":\"c\"}";
+
+    private static final String KEYS_LAST = "{\"machineProperty\":\"m\",\"vehicleProperty\":\"v\",\"carProperty\":\"c\","
+            + "\"@machine\":\"vehicle\",\"@vehicle\":\"car\"}";
+
+    private final Jsonb jsonb = JsonbBuilder.create();
+
+    @Test
+    public void testDeserializeTypeInfoFirst() {
+        assertCar(jsonb.fromJson(KEYS_FIRST, Machine.class));
+    }
+
+    @Test
+    public void testDeserializeTypeInfoLast() {
+        assertCar(jsonb.fromJson(KEYS_LAST, Machine.class));
+    }
+
+    @Test
+    public void testDeserializeTypeInfoFirstWithZeroBufferLimit() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withPolymorphicBufferLimit(0))) {
+            assertCar(jsonb.fromJson(KEYS_FIRST, Machine.class));
+            assertThrows(JsonbException.class, () -> jsonb.fromJson(ONE_PROPERTY_BEFORE_KEY, Machine.class),
+                         "Deserialization should have failed since a property precedes the type information "
+                                 + "and no property can be buffered.");
+        }
+    }
+
+    @Test
+    public void testDeserializeTypeInfoWithinBufferLimit() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withPolymorphicBufferLimit(1))) {
+            assertCar(jsonb.fromJson(ONE_PROPERTY_BEFORE_KEY, Machine.class));
+            assertThrows(JsonbException.class, () -> jsonb.fromJson(KEYS_LAST, Machine.class),
+                         "Deserialization should have failed since more properties precede the type information "
+                                 + "than can be buffered.");
+        }
+    }
+
+    @Test
+    public void testDeserializeTypeInfoAfterManyPropertiesWithDefaultLimit() {
+        StringBuilder json = new StringBuilder("{\"machineProperty\":\"m\",\"vehicleProperty\":\"v\"");
+        for (int i = 0; i < 10_000; i++) {
+            json.append(",\"unknown").append(i).append("\":").append(i);
+        }
+        json.append(",\"carProperty\":\"c\",\"@machine\":\"vehicle\",\"@vehicle\":\"car\"}");
+        assertCar(jsonb.fromJson(json.toString(), Machine.class));
+    }
+
+    @Test
+    public void testDeserializeNestedTypeInfoFirst() {
+        String json = "{\"machines\":[" + KEYS_FIRST + ",{\"@machine\":\"vehicle\",\"vehicleProperty\":\"w\"}]}";
+        Garage garage = jsonb.fromJson(json, Garage.class);
+        assertThat("Incorrectly deserialized number of machines in the garage.",
+                   garage.machines.size(), is(2));
+        assertCar(garage.machines.get(0));
+        assertThat("Incorrectly deserialized to the type. Expected was Vehicle instance. Got instance of class "
+                           + garage.machines.get(1).getClass(),
+                   garage.machines.get(1), instanceOf(Vehicle.class));
+        assertThat("Incorrectly deserialized field of the Vehicle instance. "
+                           + "Field \"vehicleProperty\" should have been w.",
+                   ((Vehicle) garage.machines.get(1)).vehicleProperty, is("w"));
+    }
+
+    @Test
+    public void testRoundTripTypeInfoFirst() {
+        Car car = new Car();
+        car.machineProperty = "m";
+        car.vehicleProperty = "v";
+        car.carProperty = "c";
+        String jsonString = jsonb.toJson(car);
+        assertThat("Type information keys should have been serialized first, from the most general type.",
+                   jsonString, matchesPattern("\\{\\s*\"@machine\"\\s*:\\s*\"vehicle\"\\s*,"
+                                                      + "\\s*\"@vehicle\"\\s*:\\s*\"car\"\\s*,.*"));
+        assertCar(jsonb.fromJson(jsonString, Machine.class));
+    }
+
+    private static void assertCar(Machine machine) {
+        assertThat("Incorrectly deserialized to the type. Expected was Car instance. Got instance of class "
+                           + machine.getClass(),
+                   machine, instanceOf(Car.class));
+        Car car = (Car) machine;
+        assertThat("Incorrectly deserialized field of the Car instance. Field \"machineProperty\" should have been m.",
+                   car.machineProperty, is("m"));
+        assertThat("Incorrectly deserialized field of the Car instance. Field \"vehicleProperty\" should have been v.",
+                   car.vehicleProperty, is("v"));
+        assertThat("Incorrectly deserialized field of the Car instance. Field \"carProperty\" should have been c.",
+                   car.carProperty, is("c"));
+    }
+
+    public static class Garage {
+        public List<Machine> machines;
+    }
+
+    @JsonbTypeInfo(key = "@machine", value = {
+            @JsonbSubtype(alias = "vehicle", type = Vehicle.class)
+    })
+    public static class Machine {
+        public String machineProperty;
+    }
+
+    @JsonbTypeInfo(key = "@vehicle", value = {
+            @JsonbSubtype(alias = "car", type = Car.class)
+    })
+    public static class Vehicle extends Machine {
+        public String vehicleProperty;
+    }
+
+    public static class Car extends Vehicle {
+        public String carProperty;
+    }
+}
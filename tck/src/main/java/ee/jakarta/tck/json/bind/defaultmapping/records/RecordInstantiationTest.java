@@ -44,6 +44,10 @@ public class RecordInstantiationTest {
         }
     }
 
+    public static record RecordWithPrimitiveComponents(byte b, short s, int i, long l,
+                                                       float f, double d, boolean z, char c) {
+    }
+
     private final Jsonb jsonb = JsonbBuilder.create();
 
     /**
@@ -71,5 +75,29 @@ public class RecordInstantiationTest {
                              + "throws IllegalArgumentException for a negative value.");
     }
 
-}
+    /**
+     * Verify that all primitive components are passed to the canonical constructor
+     * regardless of the order of the JSON properties.
+     */
+    @Test
+    public void testRecordPrimitiveComponents() {
+        RecordWithPrimitiveComponents result = jsonb.fromJson("{\"c\":\"x\",\"z\":true,\"d\":-2.5,\"f\":1.5,"
+                                                                      + "\"l\":9223372036854775807,\"i\":-2147483648,"
+                                                                      + "\"s\":32767,\"b\":-128}",
+                                                              RecordWithPrimitiveComponents.class);
+        assertThat("Expected primitive components to be mapped correctly.",
+                   result, is(new RecordWithPrimitiveComponents(Byte.MIN_VALUE, Short.MAX_VALUE, Integer.MIN_VALUE,
+                                                                Long.MAX_VALUE, 1.5f, -2.5, true, 'x')));
+    }
 
+    /**
+     * Verify that missing primitive components receive the default values of their types.
+     */
+    @Test
+    public void testRecordMissingPrimitiveComponents() {
+        RecordWithPrimitiveComponents result = jsonb.fromJson("{\"i\":7}", RecordWithPrimitiveComponents.class);
+        assertThat("Expected missing primitive components to have default values.",
+                   result, is(new RecordWithPrimitiveComponents((byte) 0, (short) 0, 7, 0L, 0f, 0d, false, '\u0000')));
+    }
+
+}
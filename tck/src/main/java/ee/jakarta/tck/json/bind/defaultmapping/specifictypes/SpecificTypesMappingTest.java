@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0, which is available at
@@ -20,11 +20,22 @@
 
 package ee.jakarta.tck.json.bind.defaultmapping.specifictypes;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -36,18 +47,32 @@ import ee.jakarta.tck.json.bind.SimpleMappingTester;
 import ee.jakarta.tck.json.bind.TypeContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.BigDecimalContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.BigIntegerContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.DoubleBufferContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.IntBufferContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.LongBufferContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.OptionalArrayContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.OptionalContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.OptionalDoubleContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.OptionalIntContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.OptionalLongContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.OptionalTypeContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.ReaderContainer;
+import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.ReaderSupplierContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.SimpleContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.URIContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.URLContainer;
 import ee.jakarta.tck.json.bind.defaultmapping.specifictypes.model.UUIDContainer;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.config.BufferAllocator;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 /**
  * @test
  * @sources SpecificTypesMappingTest.java
@@ -315,4 +340,252 @@ public class SpecificTypesMappingTest {
                 UUID.fromString("e3a3a246-7314-4964-a4dc-807550d83e14"),
                 "\"e3a3a246-7314-4964-a4dc-807550d83e14\"");
     }
+
+    /*
+     * @testName: testIntBufferMapping
+     *
+     * @test_Strategy: Assert that java.nio.IntBuffer is marshalled as JSON array
+     * of its remaining elements and unmarshalled back to a buffer with the same content
+     */
+    @Test
+    public void testIntBufferMapping() {
+        new MappingTester<>(IntBufferContainer.class)
+                .setMarshallExpectedRegExp("\\[\\s*-1\\s*,\\s*0\\s*,\\s*2147483647\\s*\\]")
+                .test(IntBuffer.wrap(new int[] {-1, 0, Integer.MAX_VALUE}), "[-1,0,2147483647]");
+    }
+
+    /*
+     * @testName: testLongBufferMapping
+     *
+     * @test_Strategy: Assert that java.nio.LongBuffer is marshalled as JSON array
+     * of its remaining elements and unmarshalled back to a buffer with the same content
+     */
+    @Test
+    public void testLongBufferMapping() {
+        new MappingTester<>(LongBufferContainer.class)
+                .setMarshallExpectedRegExp("\\[\\s*-1\\s*,\\s*0\\s*,\\s*9007199254740991\\s*\\]")
+                .test(LongBuffer.wrap(new long[] {-1L, 0L, 9007199254740991L}), "[-1,0,9007199254740991]");
+    }
+
+    /*
+     * @testName: testDoubleBufferMapping
+     *
+     * @test_Strategy: Assert that java.nio.DoubleBuffer is marshalled as JSON array
+     * of its remaining elements and unmarshalled back to a buffer with the same content
+     */
+    @Test
+    public void testDoubleBufferMapping() {
+        new MappingTester<>(DoubleBufferContainer.class)
+                .setMarshallExpectedRegExp("\\[\\s*-0\\.5\\s*,\\s*1\\.5\\s*\\]")
+                .test(DoubleBuffer.wrap(new double[] {-0.5, 1.5}), "[-0.5,1.5]");
+    }
+
+    /*
+     * @testName: testBufferRemainingElementsMapping
+     *
+     * @test_Strategy: Assert that only the elements between position and limit
+     * of java.nio.DoubleBuffer are marshalled and that the position and limit
+     * of the buffer are not changed
+     */
+    @Test
+    public void testBufferRemainingElementsMapping() throws Exception {
+        DoubleBuffer buffer = DoubleBuffer.wrap(new double[] {1.0, 2.5, 3.5, 4.0});
+        buffer.position(1).limit(3);
+        DoubleBufferContainer container = new DoubleBufferContainer();
+        container.setInstance(buffer);
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            String json = jsonb.toJson(container);
+            assertThat("Only remaining elements of DoubleBuffer are expected to be serialized",
+                       json, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*\\[\\s*2\\.5\\s*,\\s*3\\.5\\s*\\]\\s*\\}"));
+            assertThat("Serialization is not expected to change the buffer position", buffer.position(), is(1));
+            assertThat("Serialization is not expected to change the buffer limit", buffer.limit(), is(3));
+        }
+    }
+
+    /*
+     * @testName: testDefaultBufferAllocator
+     *
+     * @test_Strategy: Assert that java.nio.DoubleBuffer is unmarshalled to
+     * a direct buffer with native byte order, position zero and limit equal
+     * to the number of array elements if no allocator is configured
+     */
+    @Test
+    public void testDefaultBufferAllocator() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            DoubleBuffer buffer = jsonb.fromJson("{ \"instance\" : [0.5, 1.5, 2.5] }", DoubleBufferContainer.class)
+                    .getInstance();
+            assertThat("DoubleBuffer is expected to be direct by default", buffer.isDirect(), is(true));
+            assertThat("DoubleBuffer is expected to use native byte order", buffer.order(), is(ByteOrder.nativeOrder()));
+            assertThat("DoubleBuffer position is expected to be zero", buffer.position(), is(0));
+            assertThat("DoubleBuffer limit is expected to be the number of elements", buffer.limit(), is(3));
+            assertThat("Unexpected DoubleBuffer content", buffer, is(DoubleBuffer.wrap(new double[] {0.5, 1.5, 2.5})));
+        }
+    }
+
+    /*
+     * @testName: testCustomBufferAllocator
+     *
+     * @test_Strategy: Assert that the memory of java.nio.LongBuffer is obtained
+     * from the configured jakarta.json.bind.config.BufferAllocator and that all
+     * intermediate buffers are released
+     */
+    @Test
+    public void testCustomBufferAllocator() throws Exception {
+        List<ByteBuffer> allocated = new ArrayList<>();
+        List<ByteBuffer> released = new ArrayList<>();
+        BufferAllocator allocator = new BufferAllocator() {
+            @Override
+            public ByteBuffer allocate(int capacity) {
+                ByteBuffer buffer = ByteBuffer.allocate(capacity);
+                allocated.add(buffer);
+                return buffer;
+            }
+
+            @Override
+            public void release(ByteBuffer buffer) {
+                released.add(buffer);
+            }
+        };
+        StringBuilder json = new StringBuilder("{ \"instance\" : [");
+        long[] expected = new long[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = i * 31L;
+            json.append(i == 0 ? "" : ",").append(expected[i]);
+        }
+        json.append("] }");
+
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withBufferAllocator(allocator))) {
+            LongBuffer buffer = jsonb.fromJson(json.toString(), LongBufferContainer.class).getInstance();
+            assertThat("BufferAllocator is expected to be used", allocated.isEmpty(), is(false));
+            assertThat("LongBuffer is expected to be backed by an allocated buffer", buffer.isDirect(), is(false));
+            assertThat("LongBuffer is expected to use native byte order", buffer.order(), is(ByteOrder.nativeOrder()));
+            assertThat("Every allocated buffer except the returned one is expected to be released",
+                       released.size(), is(allocated.size() - 1));
+            assertThat("Unexpected LongBuffer content", buffer, is(LongBuffer.wrap(expected)));
+        }
+    }
+
+    /*
+     * @testName: testReaderMapping
+     *
+     * @test_Strategy: Assert that java.io.Reader is marshalled as escaped JSON
+     * string of its characters and closed, and that JSON string is unmarshalled
+     * to a reader of the unescaped characters
+     */
+    @Test
+    public void testReaderMapping() throws Exception {
+        String text = "<p class=\"note\">a\\b</p>\n\t\u00e9";
+        boolean[] closed = new boolean[1];
+        ReaderContainer container = new ReaderContainer();
+        container.setInstance(new StringReader(text) {
+            @Override
+            public void close() {
+                closed[0] = true;
+                super.close();
+            }
+        });
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            String json = jsonb.toJson(container);
+            assertThat("Failed to marshal java.io.Reader as escaped JSON string",
+                       json, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*\"<p class=\\\\\"note\\\\\">a\\\\\\\\b</p>"
+                                                    + "\\\\n\\\\t\u00e9\"\\s*\\}"));
+            assertThat("java.io.Reader is expected to be closed after marshalling", closed[0], is(true));
+
+            try (Reader reader = jsonb.fromJson(json, ReaderContainer.class).getInstance()) {
+                assertThat("Failed to unmarshal JSON string to java.io.Reader", readAll(reader), is(text));
+            }
+        }
+    }
+
+    /*
+     * @testName: testReaderSupplierMapping
+     *
+     * @test_Strategy: Assert that Supplier<java.io.Reader> is marshalled as JSON
+     * string and that each call of the unmarshalled supplier returns a reader of
+     * the whole string
+     */
+    @Test
+    public void testReaderSupplierMapping() throws Exception {
+        ReaderSupplierContainer container = new ReaderSupplierContainer();
+        container.setInstance(() -> new StringReader("first line\nsecond line"));
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            String json = jsonb.toJson(container);
+            assertThat("Failed to marshal Supplier<java.io.Reader> as JSON string",
+                       json, matchesPattern("\\{\\s*\"instance\"\\s*:\\s*\"first line\\\\nsecond line\"\\s*\\}"));
+
+            ReaderSupplierContainer unmarshalled = jsonb.fromJson(json, ReaderSupplierContainer.class);
+            for (int i = 0; i < 2; i++) {
+                try (Reader reader = unmarshalled.getInstance().get()) {
+                    assertThat("Failed to unmarshal JSON string to Supplier<java.io.Reader>",
+                               readAll(reader), is("first line\nsecond line"));
+                }
+            }
+        }
+    }
+
+    /*
+     * @testName: testReaderSpillMapping
+     *
+     * @test_Strategy: Assert that JSON string longer than the configured
+     * streaming spill threshold is correctly marshalled from and unmarshalled
+     * to java.io.Reader
+     */
+    @Test
+    public void testReaderSpillMapping() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; text.length() < 1024 * 1024; i++) {
+            text.append("row ").append(i).append(",\"quoted\",\u20ac\n");
+        }
+        ReaderContainer container = new ReaderContainer();
+        container.setInstance(new StringReader(text.toString()));
+        SimpleContainer expected = new SimpleContainer();
+        expected.setStringInstance(text.toString());
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withStreamingSpillThreshold(8192))) {
+            String json = jsonb.toJson(container);
+            assertThat("Failed to marshal long java.io.Reader the same way as java.lang.String",
+                       json.replace("\"instance\"", "\"stringInstance\""), is(jsonb.toJson(expected)));
+
+            try (Reader reader = jsonb.fromJson(json, ReaderContainer.class).getInstance()) {
+                assertThat("Failed to unmarshal long JSON string to java.io.Reader",
+                           readAll(reader).equals(text.toString()), is(true));
+            }
+        }
+    }
+
+    /*
+     * @testName: testReaderSupplierSpillMapping
+     *
+     * @test_Strategy: Assert that each call of Supplier<java.io.Reader>
+     * unmarshalled from JSON string longer than the configured streaming spill
+     * threshold returns a reader of the whole string after the previously
+     * returned readers are closed and that the supplier cannot be called after
+     * the Jsonb instance is closed
+     */
+    @Test
+    public void testReaderSupplierSpillMapping() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; text.length() < 1024 * 1024; i++) {
+            text.append("row ").append(i).append(",\u20ac\n");
+        }
+        ReaderSupplierContainer container = new ReaderSupplierContainer();
+        container.setInstance(() -> new StringReader(text.toString()));
+        ReaderSupplierContainer unmarshalled;
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withStreamingSpillThreshold(8192))) {
+            unmarshalled = jsonb.fromJson(jsonb.toJson(container), ReaderSupplierContainer.class);
+            for (int i = 0; i < 2; i++) {
+                try (Reader reader = unmarshalled.getInstance().get()) {
+                    assertThat("Failed to unmarshal long JSON string to Supplier<java.io.Reader>",
+                               readAll(reader).equals(text.toString()), is(true));
+                }
+            }
+        }
+        assertThrows(IllegalStateException.class, () -> unmarshalled.getInstance().get(),
+                     "Supplier<java.io.Reader> is not expected to be called after the Jsonb instance is closed.");
+    }
+
+    private static String readAll(Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
+    }
 }
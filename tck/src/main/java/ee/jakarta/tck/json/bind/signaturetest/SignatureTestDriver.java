@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates and others.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates and others.
  * All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -23,6 +23,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Properties;
 
 
@@ -36,6 +37,11 @@ public abstract class SignatureTestDriver {
 
   private static final String SIG_FILE_VER_SEP = "_";
 
+  // The JVM drops the final modifier of jdk.jfr.Event methods at runtime,
+  // so subclasses of it can only be verified against their class files.
+  private static final List<String> STATIC_MODE_ONLY_PACKAGES = List.of(
+      "jakarta.json.bind.jfr");
+
   // ---------------------------------------------------------- Public Methods
 
   /**
@@ -214,23 +220,28 @@ public abstract class SignatureTestDriver {
               + "' - FAILED (STATIC MODE) **********");
         }
 
-        System.out.println("\n\n");
-        System.out.println("********** VALIDATE IN REFLECTIVE MODE  ****");
-        System.out.println(
-            "Reflective mode supports verification within containers (ie ejb, servlet, etc)");
-
-        String[] args2 = createTestArguments(packageListFile, mapFile,
-            signatureRepositoryDir, packageName, classpath, false);
-        dumpTestArguments(args2);
-
-        if (runSignatureTest(packageName, args2)) {
+        if (STATIC_MODE_ONLY_PACKAGES.contains(packageName)) {
           System.out.println("********** Package '" + packageName
-              + "' - PASSED (REFLECTION MODE) **********");
-          result.addPassedPkg(packageName + "(reflection mode)");
+              + "' - SKIPPED (REFLECTION MODE) **********");
         } else {
-          result.addFailedPkg(packageName + "(reflection mode)");
-          System.out.println("********** Package '" + packageName
-              + "' - FAILED (REFLECTION MODE) **********");
+          System.out.println("\n\n");
+          System.out.println("********** VALIDATE IN REFLECTIVE MODE  ****");
+          System.out.println(
+              "Reflective mode supports verification within containers (ie ejb, servlet, etc)");
+
+          String[] args2 = createTestArguments(packageListFile, mapFile,
+              signatureRepositoryDir, packageName, classpath, false);
+          dumpTestArguments(args2);
+
+          if (runSignatureTest(packageName, args2)) {
+            System.out.println("********** Package '" + packageName
+                + "' - PASSED (REFLECTION MODE) **********");
+            result.addPassedPkg(packageName + "(reflection mode)");
+          } else {
+            result.addFailedPkg(packageName + "(reflection mode)");
+            System.out.println("********** Package '" + packageName
+                + "' - FAILED (REFLECTION MODE) **********");
+          }
         }
 
         System.out.println("********** END VALIDATE PACKAGE '"
@@ -61,6 +61,8 @@ public class JSONBSigTest extends SigTestEE {
   protected String[] getPackages(String vehicleName) {
     return new String[] { "jakarta.json.bind", "jakarta.json.bind.adapter",
         "jakarta.json.bind.annotation", "jakarta.json.bind.config",
+        "jakarta.json.bind.jfr",
+        "jakarta.json.bind.metrics",
         "jakarta.json.bind.serializer", "jakarta.json.bind.spi" };
 
   }